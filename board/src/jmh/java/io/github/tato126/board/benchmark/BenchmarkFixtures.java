@@ -0,0 +1,88 @@
+package io.github.tato126.board.benchmark;
+
+import io.github.tato126.board.domain.comment.Comment;
+import io.github.tato126.board.domain.post.Post;
+import io.github.tato126.board.domain.post.PostSummary;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+final class BenchmarkFixtures {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 12, 31, 12, 0);
+
+    private BenchmarkFixtures() {
+    }
+
+    static Post post(long id, int contentLength) {
+        Post post = Post.builder()
+                .title("게시글 제목 " + id)
+                .content("내".repeat(contentLength))
+                .author("작성자")
+                .build();
+        setField(post, "id", id);
+        setField(post, "createdAt", NOW);
+        setField(post, "updatedAt", NOW);
+        return post;
+    }
+
+    static List<PostSummary> summaries(int size) {
+        List<PostSummary> summaries = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            summaries.add(new PostSummary(id, "게시글 제목 " + id, "작성자", NOW, id % 50));
+        }
+        return summaries;
+    }
+
+    static Comment deepThread(Post post, int depth) {
+        Comment root = comment(post, null, 1);
+        Comment parent = root;
+        for (int i = 2; i <= depth; i++) {
+            parent = comment(post, parent, i);
+        }
+        return root;
+    }
+
+    static Comment wideThread(Post post, int width) {
+        Comment root = comment(post, null, 1);
+        for (int i = 2; i <= width + 1; i++) {
+            comment(post, root, i);
+        }
+        return root;
+    }
+
+    private static Comment comment(Post post, Comment parent, long id) {
+        Comment comment = Comment.builder()
+                .content("댓글 내용 " + id)
+                .author("댓글 작성자")
+                .post(post)
+                .parent(parent)
+                .build();
+        setField(comment, "id", id);
+        setField(comment, "createdAt", NOW);
+        setField(comment, "updatedAt", NOW);
+        if (parent != null) {
+            parent.getReplies().add(comment);
+        }
+        return comment;
+    }
+
+    private static void setField(Object target, String name, Object value) {
+        Class<?> type = target.getClass();
+        while (type != null) {
+            try {
+                Field field = type.getDeclaredField(name);
+                field.setAccessible(true);
+                field.set(target, value);
+                return;
+            } catch (NoSuchFieldException e) {
+                type = type.getSuperclass();
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        throw new IllegalArgumentException("No field " + name + " on " + target.getClass());
+    }
+}
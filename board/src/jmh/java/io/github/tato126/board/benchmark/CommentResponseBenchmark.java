@@ -0,0 +1,42 @@
+package io.github.tato126.board.benchmark;
+
+import io.github.tato126.board.api.comment.dto.CommentResponse;
+import io.github.tato126.board.domain.comment.Comment;
+import io.github.tato126.board.domain.post.Post;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommentResponseBenchmark {
+
+    @Param({"deep", "wide"})
+    private String shape;
+
+    @Param({"64", "256"})
+    private int size;
+
+    private Comment root;
+
+    @Setup
+    public void setUp() {
+        Post post = BenchmarkFixtures.post(1L, 100);
+        root = "deep".equals(shape)
+                ? BenchmarkFixtures.deepThread(post, size)
+                : BenchmarkFixtures.wideThread(post, size);
+    }
+
+    @Benchmark
+    public CommentResponse mapThread() {
+        return CommentResponse.from(root);
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.tato126.board.benchmark;
+
+import io.github.tato126.board.api.post.dto.PostListResponse;
+import io.github.tato126.board.api.post.dto.PostResponse;
+import io.github.tato126.board.domain.post.Post;
+import io.github.tato126.board.domain.post.PostSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostResponseBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private List<PostSummary> summaries;
+    private List<Post> posts;
+
+    @Setup
+    public void setUp() {
+        summaries = BenchmarkFixtures.summaries(pageSize);
+        posts = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            posts.add(BenchmarkFixtures.post(id, 2_000));
+        }
+    }
+
+    @Benchmark
+    public List<PostListResponse> mapListPage() {
+        return summaries.stream()
+                .map(PostListResponse::from)
+                .toList();
+    }
+
+    @Benchmark
+    public List<PostResponse> mapDetails() {
+        return posts.stream()
+                .map(PostResponse::from)
+                .toList();
+    }
+}
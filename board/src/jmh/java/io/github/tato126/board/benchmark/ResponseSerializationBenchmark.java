@@ -0,0 +1,71 @@
+package io.github.tato126.board.benchmark;
+
+import io.github.tato126.board.api.comment.dto.CommentResponse;
+import io.github.tato126.board.api.post.dto.PostListResponse;
+import io.github.tato126.board.api.post.dto.PostResponse;
+import io.github.tato126.board.domain.post.Post;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    private Page<PostListResponse> listPage;
+    private PostResponse detail;
+    private CommentResponse deepThread;
+    private CommentResponse wideThread;
+
+    @Setup
+    public void setUp() {
+        List<PostListResponse> content = BenchmarkFixtures.summaries(pageSize).stream()
+                .map(PostListResponse::from)
+                .toList();
+        listPage = new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000);
+        detail = PostResponse.from(BenchmarkFixtures.post(1L, 2_000));
+
+        Post post = BenchmarkFixtures.post(2L, 100);
+        deepThread = CommentResponse.from(BenchmarkFixtures.deepThread(post, 200));
+        wideThread = CommentResponse.from(BenchmarkFixtures.wideThread(post, 1_000));
+    }
+
+    @Benchmark
+    public byte[] serializeListPage() {
+        return objectMapper.writeValueAsBytes(listPage);
+    }
+
+    @Benchmark
+    public byte[] serializeDetail() {
+        return objectMapper.writeValueAsBytes(detail);
+    }
+
+    @Benchmark
+    public byte[] serializeDeepThread() {
+        return objectMapper.writeValueAsBytes(deepThread);
+    }
+
+    @Benchmark
+    public byte[] serializeWideThread() {
+        return objectMapper.writeValueAsBytes(wideThread);
+    }
+}
@@ -1,15 +1,25 @@
 package io.github.tato126.board.api.comment;
 
+import io.github.tato126.board.api.comment.dto.BulkCreateCommentRequest;
+import io.github.tato126.board.api.comment.dto.CommentNodeResponse;
 import io.github.tato126.board.api.comment.dto.CommentResponse;
 import io.github.tato126.board.api.comment.dto.CreateCommentRequest;
+import io.github.tato126.board.api.comment.dto.ThreadCommentResponse;
 import io.github.tato126.board.api.comment.dto.UpdateCommentRequest;
+import io.github.tato126.board.common.response.BulkCreateResponse;
+import io.github.tato126.board.common.response.CursorResponse;
 import io.github.tato126.board.domain.comment.Comment;
+import io.github.tato126.board.domain.comment.CommentNode;
+import io.github.tato126.board.domain.comment.CommentDraft;
 import io.github.tato126.board.domain.comment.CommentService;
+import io.github.tato126.board.domain.comment.CommentThreadVersion;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -33,11 +43,72 @@ public class CommentController {
         return ResponseEntity.status(HttpStatus.CREATED).body(CommentResponse.from(comment));
     }
 
+    @PostMapping("/api/posts/{postId}/comments/bulk")
+    public ResponseEntity<BulkCreateResponse> createComments(
+            @PathVariable Long postId,
+            @Valid @RequestBody BulkCreateCommentRequest request
+    ) {
+        List<CommentDraft> drafts = request.getComments().stream()
+                .map(comment -> new CommentDraft(comment.getContent(), comment.getAuthor()))
+                .toList();
+        List<Long> ids = commentService.createComments(postId, drafts);
+        return ResponseEntity.status(HttpStatus.CREATED).body(BulkCreateResponse.of(ids));
+    }
+
     @GetMapping("/api/posts/{postId}/comments")
-    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable Long postId) {
+    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable Long postId, WebRequest webRequest) {
+        CommentThreadVersion version = commentService.getThreadVersion(postId);
+        String etag = "thread-" + postId + "-" + version.commentCount() + "-" + version.lastModifiedAt();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
         List<CommentResponse> comments = commentService.getComments(postId).stream()
                 .map(CommentResponse::from)
                 .collect(Collectors.toList());
+        return ResponseEntity.ok().eTag(etag).body(comments);
+    }
+
+    @GetMapping("/api/posts/{postId}/comments/cursor")
+    public ResponseEntity<CursorResponse<CommentNodeResponse>> getCommentsByCursor(
+            @PathVariable Long postId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "${board.comments.preview-depth}") int depth,
+            @RequestParam(defaultValue = "${board.comments.preview-width}") int width
+    ) {
+        Slice<CommentNode> comments = commentService.getRootComments(postId, cursor, size, depth, width);
+        return ResponseEntity.ok(toCursorResponse(comments));
+    }
+
+    @GetMapping("/api/comments/{id}/replies")
+    public ResponseEntity<CursorResponse<CommentNodeResponse>> getReplies(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "${board.comments.preview-depth}") int depth,
+            @RequestParam(defaultValue = "${board.comments.preview-width}") int width
+    ) {
+        Slice<CommentNode> replies = commentService.getReplies(id, cursor, size, depth, width);
+        return ResponseEntity.ok(toCursorResponse(replies));
+    }
+
+    @GetMapping("/api/posts/{postId}/comments/thread")
+    public ResponseEntity<List<ThreadCommentResponse>> getThread(
+            @PathVariable Long postId,
+            @RequestParam(defaultValue = "" + Integer.MAX_VALUE) int maxDepth
+    ) {
+        List<ThreadCommentResponse> comments = commentService.getThread(postId, maxDepth).stream()
+                .map(ThreadCommentResponse::from)
+                .toList();
+        return ResponseEntity.ok(comments);
+    }
+
+    @GetMapping("/api/comments/{id}/subtree")
+    public ResponseEntity<List<ThreadCommentResponse>> getSubtree(@PathVariable Long id) {
+        List<ThreadCommentResponse> comments = commentService.getSubtree(id).stream()
+                .map(ThreadCommentResponse::from)
+                .toList();
         return ResponseEntity.ok(comments);
     }
 
@@ -68,4 +139,11 @@ public class CommentController {
         commentService.deleteComment(id);
         return ResponseEntity.noContent().build();
     }
+
+    private CursorResponse<CommentNodeResponse> toCursorResponse(Slice<CommentNode> nodes) {
+        String nextCursor = nodes.hasNext()
+                ? nodes.getContent().get(nodes.getNumberOfElements() - 1).comment().getId().toString()
+                : null;
+        return CursorResponse.of(nodes.map(CommentNodeResponse::from).getContent(), nextCursor);
+    }
 }
@@ -0,0 +1,40 @@
+package io.github.tato126.board.api.comment.dto;
+
+import io.github.tato126.board.domain.comment.Comment;
+import io.github.tato126.board.domain.comment.CommentNode;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class CommentNodeResponse {
+
+    private Long id;
+    private String content;
+    private String author;
+    private int depth;
+    private LocalDateTime createdAt;
+    private List<CommentNodeResponse> replies;
+    private boolean hasMoreReplies;
+    private String repliesCursor;
+
+    public static CommentNodeResponse from(CommentNode node) {
+        Comment comment = node.comment();
+        Long lastReplyId = node.lastReplyId();
+        return CommentNodeResponse.builder()
+                .id(comment.getId())
+                .content(comment.getContent())
+                .author(comment.getAuthor())
+                .depth(comment.getDepth())
+                .createdAt(comment.getCreatedAt())
+                .replies(node.replies().stream()
+                        .map(CommentNodeResponse::from)
+                        .toList())
+                .hasMoreReplies(node.hasMoreReplies())
+                .repliesCursor(node.hasMoreReplies() && lastReplyId != null ? lastReplyId.toString() : null)
+                .build();
+    }
+}
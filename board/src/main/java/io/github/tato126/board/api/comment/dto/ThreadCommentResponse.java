@@ -0,0 +1,30 @@
+package io.github.tato126.board.api.comment.dto;
+
+import io.github.tato126.board.domain.comment.Comment;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class ThreadCommentResponse {
+
+    private Long id;
+    private Long parentId;
+    private int depth;
+    private String content;
+    private String author;
+    private LocalDateTime createdAt;
+
+    public static ThreadCommentResponse from(Comment comment) {
+        return ThreadCommentResponse.builder()
+                .id(comment.getId())
+                .parentId(comment.getParent() == null ? null : comment.getParent().getId())
+                .depth(comment.getDepth())
+                .content(comment.getContent())
+                .author(comment.getAuthor())
+                .createdAt(comment.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.tato126.board.api.hot;
+
+import io.github.tato126.board.api.post.dto.PostListResponse;
+import io.github.tato126.board.domain.hot.HotPostService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class HotPostController {
+
+    private final HotPostService hotPostService;
+
+    @GetMapping("/api/posts/hot")
+    public ResponseEntity<List<PostListResponse>> getHotPosts(@RequestParam(defaultValue = "20") int size) {
+        List<PostListResponse> posts = hotPostService.getHotPosts(size).stream()
+                .map(PostListResponse::from)
+                .toList();
+        return ResponseEntity.ok(posts);
+    }
+}
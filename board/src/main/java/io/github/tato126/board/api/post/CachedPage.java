@@ -0,0 +1,41 @@
+package io.github.tato126.board.api.post;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+public record CachedPage(
+        byte[] identity,
+        byte[] gzip,
+        byte[] deflate
+) {
+    public static CachedPage of(byte[] json) {
+        try {
+            ByteArrayOutputStream gzip = new ByteArrayOutputStream(json.length / 4);
+            try (OutputStream out = new GZIPOutputStream(gzip)) {
+                out.write(json);
+            }
+            ByteArrayOutputStream deflate = new ByteArrayOutputStream(json.length / 4);
+            try (OutputStream out = new DeflaterOutputStream(deflate)) {
+                out.write(json);
+            }
+            return new CachedPage(json, gzip.toByteArray(), deflate.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public byte[] body(String encoding) {
+        if (encoding == null) {
+            return identity;
+        }
+        return switch (encoding) {
+            case "gzip" -> gzip;
+            case "deflate" -> deflate;
+            default -> identity;
+        };
+    }
+}
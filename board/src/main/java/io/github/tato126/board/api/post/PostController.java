@@ -1,18 +1,30 @@
 package io.github.tato126.board.api.post;
 
+import io.github.tato126.board.api.post.dto.BulkCreatePostRequest;
+import io.github.tato126.board.api.post.dto.BulkDeletePostRequest;
 import io.github.tato126.board.api.post.dto.CreatePostRequest;
 import io.github.tato126.board.api.post.dto.PostListResponse;
 import io.github.tato126.board.api.post.dto.PostResponse;
 import io.github.tato126.board.api.post.dto.UpdatePostRequest;
+import io.github.tato126.board.common.response.BulkCreateResponse;
+import io.github.tato126.board.common.response.BulkDeleteResponse;
+import io.github.tato126.board.common.response.CursorResponse;
 import io.github.tato126.board.domain.post.Post;
+import io.github.tato126.board.domain.post.PostCursor;
+import io.github.tato126.board.domain.post.PostDraft;
 import io.github.tato126.board.domain.post.PostService;
+import io.github.tato126.board.domain.post.PostSummary;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/posts")
@@ -31,6 +43,15 @@ public class PostController {
         return ResponseEntity.status(HttpStatus.CREATED).body(PostResponse.from(post));
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkCreateResponse> createPosts(@Valid @RequestBody BulkCreatePostRequest request) {
+        List<PostDraft> drafts = request.getPosts().stream()
+                .map(post -> new PostDraft(post.getTitle(), post.getContent(), post.getAuthor()))
+                .toList();
+        List<Long> ids = postService.createPosts(drafts);
+        return ResponseEntity.status(HttpStatus.CREATED).body(BulkCreateResponse.of(ids));
+    }
+
     @GetMapping
     public ResponseEntity<Page<PostListResponse>> getPosts(Pageable pageable) {
         Page<PostListResponse> posts = postService.getPosts(pageable)
@@ -38,10 +59,32 @@ public class PostController {
         return ResponseEntity.ok(posts);
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorResponse<PostListResponse>> getPostsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        PostCursor position = cursor == null ? null : PostCursor.decode(cursor);
+        Slice<PostSummary> posts = postService.getPostsByCursor(position, size);
+
+        String nextCursor = posts.hasNext()
+                ? PostCursor.from(posts.getContent().get(posts.getNumberOfElements() - 1)).encode()
+                : null;
+        return ResponseEntity.ok(CursorResponse.of(
+                posts.map(PostListResponse::from).getContent(),
+                nextCursor
+        ));
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<PostResponse> getPost(@PathVariable Long id) {
+    public ResponseEntity<PostResponse> getPost(@PathVariable Long id, WebRequest webRequest) {
         Post post = postService.getPost(id);
-        return ResponseEntity.ok(PostResponse.from(post));
+        String etag = "post-" + post.getId() + "-" + post.getUpdatedAt() + "-" + post.getViewCount();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        postService.recordView(id);
+        return ResponseEntity.ok().eTag(etag).body(PostResponse.from(post));
     }
 
     @PutMapping("/{id}")
@@ -58,4 +101,16 @@ public class PostController {
         postService.deletePost(id);
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<BulkDeleteResponse> deletePosts(@Valid @RequestBody BulkDeletePostRequest request) {
+        int count = postService.deletePosts(request.getIds());
+        return ResponseEntity.ok(new BulkDeleteResponse(count));
+    }
+
+    @DeleteMapping(params = "author")
+    public ResponseEntity<BulkDeleteResponse> deletePostsByAuthor(@RequestParam String author) {
+        int count = postService.deletePostsByAuthor(author);
+        return ResponseEntity.ok(new BulkDeleteResponse(count));
+    }
 }
@@ -0,0 +1,103 @@
+package io.github.tato126.board.api.post;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.filter.ServerHttpObservationFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+
+@RequiredArgsConstructor
+public class PostListCacheFilter extends OncePerRequestFilter {
+
+    private static final String LIST_PATH = "/api/posts";
+    private static final Set<String> PAGE_PARAMS = Set.of("page", "size");
+
+    private final PostListPageCache postListPageCache;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod())
+                || !LIST_PATH.equals(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        Integer page = cacheablePage(request);
+        if (page == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, LIST_PATH);
+        ServerHttpObservationFilter.findObservationContext(request)
+                .ifPresent(context -> context.setPathPattern(LIST_PATH));
+
+        String encoding = negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        byte[] body = postListPageCache.get(page).body(encoding);
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (encoding != null) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private Integer cacheablePage(HttpServletRequest request) {
+        Map<String, String[]> params = request.getParameterMap();
+        if (!PAGE_PARAMS.containsAll(params.keySet())) {
+            return null;
+        }
+        try {
+            int page = intParam(params, "page", 0);
+            int size = intParam(params, "size", postListPageCache.pageSize());
+            return postListPageCache.isCacheable(page, size) ? page : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static int intParam(Map<String, String[]> params, String name, int defaultValue) {
+        String[] values = params.get(name);
+        if (values == null) {
+            return defaultValue;
+        }
+        if (values.length != 1) {
+            throw new NumberFormatException("Multiple values for " + name);
+        }
+        return Integer.parseInt(values[0]);
+    }
+
+    private static String negotiate(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return null;
+        }
+        boolean deflate = false;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim().toLowerCase();
+            if (parts.length > 1 && parts[1].trim().matches("q=0(\\.0*)?")) {
+                continue;
+            }
+            if (coding.equals("gzip") || coding.equals("*")) {
+                return "gzip";
+            }
+            deflate |= coding.equals("deflate");
+        }
+        return deflate ? "deflate" : null;
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.tato126.board.api.post;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.github.tato126.board.api.post.dto.PostListResponse;
+import io.github.tato126.board.domain.post.PostDeletedEvent;
+import io.github.tato126.board.domain.post.PostSavedEvent;
+import io.github.tato126.board.domain.post.PostService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+
+@Component
+public class PostListPageCache {
+
+    public static final String CACHE_NAME = "postListPages";
+
+    private final PostService postService;
+    private final ObjectMapper objectMapper;
+    private final int maxPages;
+    private final int pageSize;
+    private final LoadingCache<Integer, CachedPage> pages;
+
+    public PostListPageCache(
+            PostService postService,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${board.list-cache.max-pages}") int maxPages,
+            @Value("${board.list-cache.page-size}") int pageSize,
+            @Value("${board.list-cache.refresh-after-ms}") long refreshAfterMillis,
+            @Value("${board.list-cache.expire-after-ms}") long expireAfterMillis
+    ) {
+        this.postService = postService;
+        this.objectMapper = objectMapper;
+        this.maxPages = maxPages;
+        this.pageSize = pageSize;
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(maxPages)
+                .refreshAfterWrite(Duration.ofMillis(refreshAfterMillis))
+                .expireAfterWrite(Duration.ofMillis(expireAfterMillis))
+                .recordStats()
+                .build(this::render);
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, CACHE_NAME);
+    }
+
+    public int pageSize() {
+        return pageSize;
+    }
+
+    public boolean isCacheable(int page, int size) {
+        return page >= 0 && page < maxPages && size == pageSize;
+    }
+
+    public CachedPage get(int page) {
+        return pages.get(page);
+    }
+
+    @EventListener({PostSavedEvent.class, PostDeletedEvent.class})
+    public void onPostChanged() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refreshAll();
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refreshAll();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PostListPageCache.this);
+            }
+        });
+    }
+
+    private void refreshAll() {
+        pages.refreshAll(pages.asMap().keySet());
+    }
+
+    private CachedPage render(Integer page) {
+        Page<PostListResponse> posts = postService.getPosts(PageRequest.of(page, pageSize))
+                .map(PostListResponse::from);
+        return CachedPage.of(objectMapper.writeValueAsBytes(posts));
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.tato126.board.api.post.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class BulkCreatePostRequest {
+
+    @NotEmpty(message = "게시글 목록은 필수입니다")
+    @Size(max = 5000, message = "한 번에 5000건까지 등록할 수 있습니다")
+    private List<@Valid CreatePostRequest> posts;
+}
@@ -0,0 +1,16 @@
+package io.github.tato126.board.api.post.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class BulkDeletePostRequest {
+
+    @NotEmpty(message = "게시글 ID 목록은 필수입니다")
+    @Size(max = 5000, message = "한 번에 5000건까지 삭제할 수 있습니다")
+    private List<@NotNull Long> ids;
+}
@@ -1,6 +1,6 @@
 package io.github.tato126.board.api.post.dto;
 
-import io.github.tato126.board.domain.post.Post;
+import io.github.tato126.board.domain.post.PostSummary;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -14,13 +14,15 @@ public class PostListResponse {
     private String title;
     private String author;
     private LocalDateTime createdAt;
+    private long commentCount;
 
-    public static PostListResponse from(Post post) {
+    public static PostListResponse from(PostSummary post) {
         return PostListResponse.builder()
-                .id(post.getId())
-                .title(post.getTitle())
-                .author(post.getAuthor())
-                .createdAt(post.getCreatedAt())
+                .id(post.id())
+                .title(post.title())
+                .author(post.author())
+                .createdAt(post.createdAt())
+                .commentCount(post.commentCount())
                 .build();
     }
 }
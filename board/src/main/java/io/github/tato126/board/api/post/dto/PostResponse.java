@@ -14,6 +14,7 @@ public class PostResponse {
     private String title;
     private String content;
     private String author;
+    private long viewCount;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -23,6 +24,7 @@ public class PostResponse {
                 .title(post.getTitle())
                 .content(post.getContent())
                 .author(post.getAuthor())
+                .viewCount(post.getViewCount())
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
                 .build();
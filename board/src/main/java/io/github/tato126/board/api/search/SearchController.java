@@ -0,0 +1,28 @@
+package io.github.tato126.board.api.search;
+
+import io.github.tato126.board.api.post.dto.PostListResponse;
+import io.github.tato126.board.domain.search.PostSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final PostSearchService postSearchService;
+
+    @GetMapping("/api/posts/search")
+    public ResponseEntity<Page<PostListResponse>> searchPosts(
+            @RequestParam("q") String query,
+            Pageable pageable
+    ) {
+        Page<PostListResponse> posts = postSearchService.search(query, pageable)
+                .map(PostListResponse::from);
+        return ResponseEntity.ok(posts);
+    }
+}
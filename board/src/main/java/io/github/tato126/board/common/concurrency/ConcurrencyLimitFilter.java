@@ -0,0 +1,169 @@
+package io.github.tato126.board.common.concurrency;
+
+import io.github.tato126.board.common.response.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    public static final String LIMIT_METRIC = "board.concurrency.limit";
+    public static final String INFLIGHT_METRIC = "board.concurrency.inflight";
+    public static final String REJECTED_METRIC = "board.concurrency.rejected";
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final AdaptiveLimit readLimit;
+    private final AdaptiveLimit writeLimit;
+    private final String streamingPath;
+    private final Semaphore streams;
+    private final Counter readRejections;
+    private final Counter writeRejections;
+    private final Counter streamRejections;
+    private final ObjectMapper objectMapper;
+    private final String retryAfterSeconds;
+
+    public ConcurrencyLimitFilter(
+            AdaptiveLimit readLimit,
+            AdaptiveLimit writeLimit,
+            String streamingPath,
+            int maxStreams,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            int retryAfterSeconds
+    ) {
+        this.readLimit = readLimit;
+        this.writeLimit = writeLimit;
+        this.streamingPath = streamingPath;
+        this.streams = new Semaphore(maxStreams);
+        this.objectMapper = objectMapper;
+        this.retryAfterSeconds = String.valueOf(retryAfterSeconds);
+        this.readRejections = register(meterRegistry, "read", readLimit);
+        this.writeRejections = register(meterRegistry, "write", writeLimit);
+        this.streamRejections = registerStreams(meterRegistry, maxStreams);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        if (isStreaming(request)) {
+            if (!streams.tryAcquire()) {
+                streamRejections.increment();
+                reject(response);
+                return;
+            }
+            proceed(request, response, filterChain, streams::release);
+            return;
+        }
+
+        boolean read = READ_METHODS.contains(request.getMethod());
+        AdaptiveLimit limit = read ? readLimit : writeLimit;
+        if (!limit.tryAcquire()) {
+            (read ? readRejections : writeRejections).increment();
+            reject(response);
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        proceed(request, response, filterChain, () -> limit.release(System.nanoTime() - startedAt));
+    }
+
+    private boolean isStreaming(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length()).startsWith(streamingPath);
+    }
+
+    private void proceed(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain,
+            Runnable release
+    ) throws ServletException, IOException {
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnCompletion(release));
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                release.run();
+            }
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                ErrorResponse.of("SERVICE_UNAVAILABLE", "Server is overloaded, retry later"));
+    }
+
+    private static Counter register(MeterRegistry meterRegistry, String type, AdaptiveLimit limit) {
+        Gauge.builder(LIMIT_METRIC, limit, AdaptiveLimit::limit).tag("type", type).register(meterRegistry);
+        Gauge.builder(INFLIGHT_METRIC, limit, AdaptiveLimit::inflight).tag("type", type).register(meterRegistry);
+        return meterRegistry.counter(REJECTED_METRIC, "type", type);
+    }
+
+    private Counter registerStreams(MeterRegistry meterRegistry, int maxStreams) {
+        Gauge.builder(LIMIT_METRIC, () -> maxStreams).tag("type", "stream").register(meterRegistry);
+        Gauge.builder(INFLIGHT_METRIC, streams, permits -> maxStreams - permits.availablePermits())
+                .tag("type", "stream")
+                .register(meterRegistry);
+        return meterRegistry.counter(REJECTED_METRIC, "type", "stream");
+    }
+
+    private static final class ReleaseOnCompletion implements AsyncListener {
+
+        private final Runnable release;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private ReleaseOnCompletion(Runnable release) {
+            this.release = release;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                release.run();
+            }
+        }
+    }
+}
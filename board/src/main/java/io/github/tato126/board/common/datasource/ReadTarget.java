@@ -0,0 +1,6 @@
+package io.github.tato126.board.common.datasource;
+
+public enum ReadTarget {
+    PRIMARY,
+    REPLICA
+}
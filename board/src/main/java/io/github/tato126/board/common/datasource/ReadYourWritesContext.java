@@ -0,0 +1,37 @@
+package io.github.tato126.board.common.datasource;
+
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<Long> PRIMARY_UNTIL = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    public static void pinPrimaryUntil(long epochMillis) {
+        PRIMARY_UNTIL.set(epochMillis);
+    }
+
+    public static boolean isPinnedToPrimary() {
+        Long until = PRIMARY_UNTIL.get();
+        return until != null && until > System.currentTimeMillis();
+    }
+
+    public static Runnable propagate(Runnable task) {
+        Long until = PRIMARY_UNTIL.get();
+        if (until == null) {
+            return task;
+        }
+        return () -> {
+            pinPrimaryUntil(until);
+            try {
+                task.run();
+            } finally {
+                clear();
+            }
+        };
+    }
+
+    public static void clear() {
+        PRIMARY_UNTIL.remove();
+    }
+}
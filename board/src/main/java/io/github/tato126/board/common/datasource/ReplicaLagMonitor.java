@@ -0,0 +1,55 @@
+package io.github.tato126.board.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Slf4j
+public class ReplicaLagMonitor {
+
+    public static final String LAG_METRIC = "board.datasource.replica.lag";
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final long maxLagMillis;
+    private volatile long lagMillis = Long.MAX_VALUE;
+
+    public ReplicaLagMonitor(JdbcTemplate primary, JdbcTemplate replica, long maxLagMillis, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLagMillis = maxLagMillis;
+        primary.execute("create table if not exists replica_heartbeat (id int primary key, beat_at bigint not null)");
+        Gauge.builder(LAG_METRIC, this, ReplicaLagMonitor::lagMillis)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    public boolean isReplicaAvailable() {
+        return lagMillis <= maxLagMillis;
+    }
+
+    public long lagMillis() {
+        return lagMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${board.datasource.replica.heartbeat-interval-ms}")
+    public void probe() {
+        try {
+            long now = System.currentTimeMillis();
+            if (primary.update("update replica_heartbeat set beat_at = ? where id = 1", now) == 0) {
+                primary.update("insert into replica_heartbeat (id, beat_at) values (1, ?)", now);
+            }
+            Long replicated = replica.queryForObject("select max(beat_at) from replica_heartbeat", Long.class);
+            lagMillis = replicated == null ? Long.MAX_VALUE : Math.max(0, System.currentTimeMillis() - replicated);
+        } catch (DataAccessException e) {
+            lagMillis = Long.MAX_VALUE;
+            log.warn("Replica heartbeat failed, routing reads to primary", e);
+        }
+        if (!isReplicaAvailable()) {
+            log.warn("Replica lag {} ms exceeds {} ms, routing reads to primary", lagMillis, maxLagMillis);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.tato126.board.common.idempotency;
+
+import io.github.tato126.board.domain.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "idempotency_records", indexes = {
+        @Index(name = "idx_idempotency_records_created_at", columnList = "created_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyRecord extends BaseEntity {
+
+    @Id
+    @Column(length = IdempotencyFilter.MAX_KEY_LENGTH)
+    private String idempotencyKey;
+
+    @Column(nullable = false, length = 600)
+    private String fingerprint;
+
+    @Column(nullable = false)
+    private int status;
+
+    @Column(length = 200)
+    private String contentType;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] body;
+
+    public IdempotencyRecord(String idempotencyKey, IdempotentResponse response) {
+        this.idempotencyKey = idempotencyKey;
+        this.fingerprint = response.fingerprint();
+        this.status = response.status();
+        this.contentType = response.contentType();
+        this.body = response.body();
+    }
+
+    public IdempotentResponse toResponse() {
+        return new IdempotentResponse(fingerprint, status, contentType, body);
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.tato126.board.common.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final Duration ttl;
+    private final Cache<String, IdempotentResponse> responses;
+
+    public IdempotencyStore(
+            IdempotencyRecordRepository idempotencyRecordRepository,
+            @Value("${board.idempotency.max-entries}") long maxEntries,
+            @Value("${board.idempotency.ttl-minutes}") long ttlMinutes
+    ) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public Optional<IdempotentResponse> find(String key) {
+        IdempotentResponse cached = responses.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        try {
+            Optional<IdempotentResponse> stored = idempotencyRecordRepository.findById(key)
+                    .filter(record -> record.getCreatedAt().isAfter(LocalDateTime.now().minus(ttl)))
+                    .map(IdempotencyRecord::toResponse);
+            stored.ifPresent(response -> responses.put(key, response));
+            return stored;
+        } catch (DataAccessException e) {
+            log.warn("Failed to look up idempotency key {}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    public void save(String key, IdempotentResponse response) {
+        responses.put(key, response);
+        try {
+            idempotencyRecordRepository.save(new IdempotencyRecord(key, response));
+        } catch (DataAccessException e) {
+            log.warn("Failed to persist idempotency key {}, keeping it in memory only", key, e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${board.idempotency.purge-interval-ms}")
+    public void purgeExpired() {
+        int purged = idempotencyRecordRepository.deleteCreatedBefore(LocalDateTime.now().minus(ttl));
+        if (purged > 0) {
+            log.info("Purged {} expired idempotency records", purged);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package io.github.tato126.board.common.idempotency;
+
+public record IdempotentResponse(
+        String fingerprint,
+        int status,
+        String contentType,
+        byte[] body
+) {
+}
@@ -0,0 +1,84 @@
+package io.github.tato126.board.common.metrics;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.hibernate.SessionEventListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+public class DbMetricsSessionListener implements SessionEventListener {
+
+    public static final String STATEMENTS_METRIC = "board.db.statements";
+    public static final String TIME_METRIC = "board.db.time";
+    public static final String CONNECTION_WAIT_METRIC = "board.db.connection.wait";
+
+    private static final String NO_URI = "none";
+
+    private int statements;
+    private long jdbcNanos;
+    private long connectionWaitNanos;
+    private long statementStartedAt;
+    private long acquisitionStartedAt;
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        acquisitionStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        connectionWaitNanos += System.nanoTime() - acquisitionStartedAt;
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        statements++;
+        jdbcNanos += System.nanoTime() - statementStartedAt;
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        statementStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        statements++;
+        jdbcNanos += System.nanoTime() - statementStartedAt;
+    }
+
+    @Override
+    public void end() {
+        if (statements == 0) {
+            return;
+        }
+        String uri = currentUri();
+        Metrics.summary(STATEMENTS_METRIC, "uri", uri).record(statements);
+        timer(TIME_METRIC, uri).record(jdbcNanos, TimeUnit.NANOSECONDS);
+        timer(CONNECTION_WAIT_METRIC, uri).record(connectionWaitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(String name, String uri) {
+        return Timer.builder(name)
+                .tag("uri", uri)
+                .register(Metrics.globalRegistry);
+    }
+
+    private String currentUri() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return NO_URI;
+        }
+        Object pattern = attributes.getAttribute(
+                HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return pattern != null ? pattern.toString() : NO_URI;
+    }
+}
@@ -0,0 +1,12 @@
+package io.github.tato126.board.common.response;
+
+import java.util.List;
+
+public record BulkCreateResponse(
+        int count,
+        List<Long> ids
+) {
+    public static BulkCreateResponse of(List<Long> ids) {
+        return new BulkCreateResponse(ids.size(), ids);
+    }
+}
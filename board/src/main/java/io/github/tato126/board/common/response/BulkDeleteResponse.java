@@ -0,0 +1,6 @@
+package io.github.tato126.board.common.response;
+
+public record BulkDeleteResponse(
+        int count
+) {
+}
@@ -0,0 +1,61 @@
+package io.github.tato126.board.common.sql;
+
+import io.micrometer.core.instrument.Metrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+@Slf4j
+@Component
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    private final int statementBudget;
+    private final int repeatThreshold;
+
+    public SqlStatementBudgetFilter(
+            @Value("${board.sql.statement-budget}") int statementBudget,
+            @Value("${board.sql.repeated-statement-threshold}") int repeatThreshold
+    ) {
+        this.statementBudget = statementBudget;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        SqlStatementRecorder.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            inspect(request, SqlStatementRecorder.stop());
+        }
+    }
+
+    private void inspect(HttpServletRequest request, SqlStatementStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+
+        if (stats.count() > statementBudget) {
+            Metrics.counter("board.sql.budget.exceeded", "endpoint", endpoint).increment();
+            log.warn("{} executed {} SQL statements (budget {})", endpoint, stats.count(), statementBudget);
+        }
+        Map<String, Integer> repeated = stats.repeatedShapes(repeatThreshold);
+        if (!repeated.isEmpty()) {
+            Metrics.counter("board.sql.repeated", "endpoint", endpoint).increment();
+            repeated.forEach((shape, times) ->
+                    log.warn("{} repeated the same SQL {} times (possible N+1): {}", endpoint, times, shape));
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.tato126.board.common.sql;
+
+public final class SqlStatementRecorder {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementRecorder() {
+    }
+
+    public static void start() {
+        CURRENT.set(new SqlStatementStats());
+    }
+
+    public static SqlStatementStats stop() {
+        SqlStatementStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats != null ? stats : new SqlStatementStats();
+    }
+
+    static void record(String sql) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.record(sql);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.tato126.board.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.tato126.board.common.datasource.ReadYourWritesContext;
+import io.github.tato126.board.domain.post.PostService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(@Value("${board.cache.posts.spec}") String postsSpec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(PostService.POST_CACHE);
+        cacheManager.setCaffeine(Caffeine.from(postsSpec).executor(cacheLoadExecutor()));
+        cacheManager.setAsyncCacheMode(true);
+        cacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    private Executor cacheLoadExecutor() {
+        ThreadFactory threads = Thread.ofVirtual().name("cache-load-", 0).factory();
+        return task -> threads.newThread(ReadYourWritesContext.propagate(task)).start();
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.tato126.board.config;
+
+import io.github.tato126.board.common.concurrency.AdaptiveLimit;
+import io.github.tato126.board.common.concurrency.ConcurrencyLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import tools.jackson.databind.ObjectMapper;
+
+@Configuration
+public class ConcurrencyLimitConfig {
+
+    private static final String STREAMING_PATH = "/api/export/";
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${board.concurrency.read.initial-limit}") int readInitialLimit,
+            @Value("${board.concurrency.read.min-limit}") int readMinLimit,
+            @Value("${board.concurrency.read.max-limit}") int readMaxLimit,
+            @Value("${board.concurrency.write.initial-limit}") int writeInitialLimit,
+            @Value("${board.concurrency.write.min-limit}") int writeMinLimit,
+            @Value("${board.concurrency.write.max-limit}") int writeMaxLimit,
+            @Value("${board.concurrency.export.max-streams}") int maxStreams,
+            @Value("${board.concurrency.tolerance}") double tolerance,
+            @Value("${board.concurrency.smoothing}") double smoothing,
+            @Value("${board.concurrency.retry-after-seconds}") int retryAfterSeconds
+    ) {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(
+                new AdaptiveLimit(readInitialLimit, readMinLimit, readMaxLimit, tolerance, smoothing),
+                new AdaptiveLimit(writeInitialLimit, writeMinLimit, writeMaxLimit, tolerance, smoothing),
+                STREAMING_PATH,
+                maxStreams,
+                objectMapper,
+                meterRegistry,
+                retryAfterSeconds
+        );
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.tato126.board.config;
+
+import io.github.tato126.board.api.post.PostListCacheFilter;
+import io.github.tato126.board.api.post.PostListPageCache;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class ListCacheConfig {
+
+    @Bean
+    public FilterRegistrationBean<PostListCacheFilter> postListCacheFilter(PostListPageCache postListPageCache) {
+        FilterRegistrationBean<PostListCacheFilter> registration =
+                new FilterRegistrationBean<>(new PostListCacheFilter(postListPageCache));
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+        return registration;
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.tato126.board.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.github.tato126.board.common.datasource.ReadYourWritesFilter;
+import io.github.tato126.board.common.datasource.ReadYourWritesTransactionListener;
+import io.github.tato126.board.common.datasource.ReplicaLagMonitor;
+import io.github.tato126.board.common.datasource.ReplicaRoutingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+@Configuration
+@Profile("replica")
+public class ReplicaRoutingConfig {
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource primaryDataSource(
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${board.datasource.primary.maximum-pool-size}") int maximumPoolSize
+    ) {
+        return pool("primary", url, username, password, maximumPoolSize, false);
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource replicaDataSource(
+            @Value("${board.datasource.replica.url}") String url,
+            @Value("${board.datasource.replica.username}") String username,
+            @Value("${board.datasource.replica.password}") String password,
+            @Value("${board.datasource.replica.maximum-pool-size}") int maximumPoolSize
+    ) {
+        return pool("replica", url, username, password, maximumPoolSize, true);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            @Value("${board.datasource.replica.max-lag-ms}") long maxLagMillis,
+            MeterRegistry meterRegistry
+    ) {
+        return new ReplicaLagMonitor(new JdbcTemplate(primary), new JdbcTemplate(replica), maxLagMillis, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            ReplicaLagMonitor replicaLagMonitor
+    ) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(primary, replica, replicaLagMonitor));
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(
+            @Value("${board.datasource.read-your-writes-ms}") long windowMillis
+    ) {
+        return new ReadYourWritesFilter(windowMillis);
+    }
+
+    @Bean
+    public ReadYourWritesTransactionListener readYourWritesTransactionListener(
+            @Value("${board.datasource.read-your-writes-ms}") long windowMillis
+    ) {
+        return new ReadYourWritesTransactionListener(windowMillis);
+    }
+
+    private HikariDataSource pool(
+            String name,
+            String url,
+            String username,
+            String password,
+            int maximumPoolSize,
+            boolean readOnly
+    ) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setReadOnly(readOnly);
+        return dataSource;
+    }
+}
@@ -7,18 +7,27 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = @Index(name = "idx_comments_post_id_path", columnList = "post_id, path"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment extends BaseEntity {
 
+    public static final int PATH_SEGMENT_WIDTH = 8;
+    public static final int PATH_LENGTH = 800;
+    public static final int MAX_DEPTH = PATH_LENGTH / PATH_SEGMENT_WIDTH;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_id_generator")
+    @SequenceGenerator(name = "comment_id_generator", sequenceName = "comments_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, columnDefinition = "TEXT")
@@ -35,7 +44,14 @@ public class Comment extends BaseEntity {
     @JoinColumn(name = "parent_id")
     private Comment parent;
 
+    @Column(length = PATH_LENGTH)
+    private String path;
+
+    @Column(nullable = false)
+    private int depth;
+
     @OneToMany(mappedBy = "parent", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("id asc")
     private List<Comment> replies = new ArrayList<>();
 
     @Builder
@@ -44,16 +60,28 @@ public class Comment extends BaseEntity {
         this.author = author;
         this.post = post;
         this.parent = parent;
-        if (post != null) {
-            post.addComment(this);
+        this.depth = parent == null ? 0 : parent.getDepth() + 1;
+    }
+
+    public void assignPath() {
+        if (parent != null && parent.getPath() == null) {
+            parent.assignPath();
         }
-        if (parent != null) {
-            parent.addReply(this);
+        String segment = pathSegment(id);
+        this.path = parent == null ? segment : parent.getPath() + segment;
+        this.depth = parent == null ? 0 : parent.getDepth() + 1;
+    }
+
+    public String subtreePattern() {
+        if (path == null) {
+            throw new IllegalStateException("Comment " + id + " has no materialized path yet");
         }
+        return path + "%";
     }
 
-    public void addReply(Comment reply) {
-        this.replies.add(reply);
+    public static String pathSegment(Long id) {
+        String segment = Long.toString(id, Character.MAX_RADIX);
+        return "0".repeat(PATH_SEGMENT_WIDTH - segment.length()) + segment;
     }
 
     public void updateContent(String content) {
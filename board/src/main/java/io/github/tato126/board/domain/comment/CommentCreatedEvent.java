@@ -0,0 +1,24 @@
+package io.github.tato126.board.domain.comment;
+
+import io.github.tato126.board.domain.outbox.OutboxMessage;
+
+public record CommentCreatedEvent(
+        Long commentId,
+        Long postId,
+        Long parentId,
+        String author
+) implements OutboxMessage {
+    public static CommentCreatedEvent from(Comment comment) {
+        return new CommentCreatedEvent(
+                comment.getId(),
+                comment.getPost().getId(),
+                comment.getParent() == null ? null : comment.getParent().getId(),
+                comment.getAuthor()
+        );
+    }
+
+    @Override
+    public Long aggregateId() {
+        return postId;
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.tato126.board.domain.comment;
+
+public record CommentDraft(
+        String content,
+        String author
+) {
+}
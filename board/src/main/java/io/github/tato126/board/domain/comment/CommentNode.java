@@ -0,0 +1,13 @@
+package io.github.tato126.board.domain.comment;
+
+import java.util.List;
+
+public record CommentNode(
+        Comment comment,
+        List<CommentNode> replies,
+        boolean hasMoreReplies
+) {
+    public Long lastReplyId() {
+        return replies.isEmpty() ? null : replies.get(replies.size() - 1).comment().getId();
+    }
+}
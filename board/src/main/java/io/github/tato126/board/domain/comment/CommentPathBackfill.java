@@ -0,0 +1,42 @@
+package io.github.tato126.board.domain.comment;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentPathBackfill {
+
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${board.comment-path.backfill-batch-size}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int backfilled = 0;
+        int batch;
+        do {
+            batch = transactionTemplate.execute(status -> {
+                List<Comment> comments = commentRepository.findPathBackfillCandidates(PageRequest.ofSize(batchSize));
+                comments.forEach(Comment::assignPath);
+                return comments.size();
+            });
+            backfilled += batch;
+        } while (batch > 0);
+
+        if (backfilled > 0) {
+            log.info("Backfilled materialized path on {} comments", backfilled);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.tato126.board.domain.comment;
+
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+public class CommentPathInterceptor implements Interceptor {
+
+    @Override
+    public boolean onPersist(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        if (!(entity instanceof Comment comment) || comment.getPath() != null) {
+            return false;
+        }
+        comment.assignPath();
+        for (int i = 0; i < propertyNames.length; i++) {
+            switch (propertyNames[i]) {
+                case "path" -> state[i] = comment.getPath();
+                case "depth" -> state[i] = comment.getDepth();
+                default -> {
+                }
+            }
+        }
+        return true;
+    }
+}
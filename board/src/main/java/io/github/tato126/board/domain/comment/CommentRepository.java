@@ -1,10 +1,111 @@
 package io.github.tato126.board.domain.comment;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     List<Comment> findByPostIdAndParentIsNull(Long postId);
+
+    @Query("select c from Comment c left join fetch c.replies where c.post.id = :postId")
+    List<Comment> findAllWithRepliesByPostId(@Param("postId") Long postId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("""
+            select new io.github.tato126.board.domain.comment.CommentThreadVersion(count(c), max(c.updatedAt))
+            from Comment c
+            where c.post.id = :postId
+            """)
+    CommentThreadVersion findThreadVersion(@Param("postId") Long postId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Comment c set c.parent = null where c.post.id in :postIds and c.parent is not null")
+    int detachRepliesByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    @Modifying
+    @Query("delete from Comment c where c.post.id in :postIds")
+    int deleteAllByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    @Query("""
+            select c from Comment c
+            where c.post.id = :postId and c.depth <= :maxDepth
+            order by c.path
+            """)
+    List<Comment> findThread(@Param("postId") Long postId, @Param("maxDepth") int maxDepth);
+
+    @Query("""
+            select c from Comment c
+            where c.post.id = :postId and c.path like :pattern
+            order by c.path
+            """)
+    List<Comment> findSubtree(@Param("postId") Long postId, @Param("pattern") String pattern);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Comment c set c.parent = null where c.post.id = :postId and c.path like :pattern")
+    int detachSubtree(@Param("postId") Long postId, @Param("pattern") String pattern);
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from Comment c where c.post.id = :postId and c.path like :pattern")
+    int deleteSubtree(@Param("postId") Long postId, @Param("pattern") String pattern);
+
+    boolean existsByPostIdAndPathIsNull(Long postId);
+
+    @Query("select c from Comment c where c.parent.id in :parentIds order by c.id")
+    List<Comment> findAllByParentIdIn(@Param("parentIds") Collection<Long> parentIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Comment c set c.parent = null where c.id in :ids")
+    int detachAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from Comment c where c.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            select c from Comment c
+            left join fetch c.parent p
+            where c.path is null and (p is null or p.path is not null)
+            order by c.id
+            """)
+    List<Comment> findPathBackfillCandidates(Pageable pageable);
+
+    @Query("""
+            select c from Comment c
+            where c.post.id = :postId and c.parent is null and c.id > :afterId
+            order by c.id
+            """)
+    List<Comment> findRootsAfter(@Param("postId") Long postId, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("""
+            select c from Comment c
+            where c.parent.id = :parentId and c.id > :afterId
+            order by c.id
+            """)
+    List<Comment> findRepliesAfter(@Param("parentId") Long parentId, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(value = """
+            select ranked.id from (
+                select c.id, row_number() over (partition by c.parent_id order by c.id) as rn
+                from comments c
+                where c.parent_id in (:parentIds)
+            ) ranked
+            where ranked.rn <= :limit
+            order by ranked.id
+            """, nativeQuery = true)
+    List<Long> findFirstReplyIds(@Param("parentIds") Collection<Long> parentIds, @Param("limit") int limit);
+
+    @Query("select c from Comment c where c.id in :ids order by c.id")
+    List<Comment> findAllByIdInOrderById(@Param("ids") Collection<Long> ids);
+
+    @Query("select distinct c.parent.id from Comment c where c.parent.id in :parentIds")
+    List<Long> findParentIdsWithReplies(@Param("parentIds") Collection<Long> parentIds);
 }
@@ -1,39 +1,93 @@
 package io.github.tato126.board.domain.comment;
 
+import io.github.tato126.board.common.exception.InvalidRequestException;
 import io.github.tato126.board.common.exception.NotFoundException;
 import io.github.tato126.board.domain.post.Post;
 import io.github.tato126.board.domain.post.PostRepository;
+import io.github.tato126.board.domain.post.PostService;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CommentService {
 
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_PREVIEW_DEPTH = 5;
+    public static final int MAX_PREVIEW_WIDTH = 20;
+
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
+    private final PostService postService;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Comment createComment(Long postId, String content, String author) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new NotFoundException("Post", postId));
+        if (postService.adjustCommentCount(postId, 1) == 0) {
+            throw new NotFoundException("Post", postId);
+        }
 
         Comment comment = Comment.builder()
                 .content(content)
                 .author(author)
-                .post(post)
+                .post(postRepository.getReferenceById(postId))
                 .build();
-        return commentRepository.save(comment);
+        Comment saved = commentRepository.save(comment);
+        eventPublisher.publishEvent(CommentCreatedEvent.from(saved));
+        return saved;
+    }
+
+    @Transactional
+    public List<Long> createComments(Long postId, List<CommentDraft> drafts) {
+        if (postService.adjustCommentCount(postId, drafts.size()) == 0) {
+            throw new NotFoundException("Post", postId);
+        }
+        Post post = postRepository.getReferenceById(postId);
+
+        List<Long> ids = new ArrayList<>(drafts.size());
+        for (CommentDraft draft : drafts) {
+            Comment comment = Comment.builder()
+                    .content(draft.content())
+                    .author(draft.author())
+                    .post(post)
+                    .build();
+            Comment saved = commentRepository.save(comment);
+            ids.add(saved.getId());
+            eventPublisher.publishEvent(CommentCreatedEvent.from(saved));
+            if (ids.size() % PostService.BULK_FLUSH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+                post = postRepository.getReferenceById(postId);
+            }
+        }
+        return ids;
     }
 
     @Transactional
     public Comment createReply(Long commentId, String content, String author) {
         Comment parent = commentRepository.findById(commentId)
                 .orElseThrow(() -> new NotFoundException("Comment", commentId));
+        if (parent.getDepth() + 1 >= Comment.MAX_DEPTH) {
+            throw new InvalidRequestException("Reply depth must be less than " + Comment.MAX_DEPTH);
+        }
 
         Comment reply = Comment.builder()
                 .content(content)
@@ -41,11 +95,51 @@ public class CommentService {
                 .post(parent.getPost())
                 .parent(parent)
                 .build();
-        return commentRepository.save(reply);
+        Comment saved = commentRepository.save(reply);
+        postService.adjustCommentCount(parent.getPost().getId(), 1);
+        eventPublisher.publishEvent(CommentCreatedEvent.from(saved));
+        return saved;
     }
 
     public List<Comment> getComments(Long postId) {
-        return commentRepository.findByPostIdAndParentIsNull(postId);
+        return commentRepository.findAllWithRepliesByPostId(postId).stream()
+                .filter(comment -> comment.getParent() == null)
+                .sorted(Comparator.comparing(Comment::getId))
+                .toList();
+    }
+
+    public Slice<CommentNode> getRootComments(Long postId, Long afterId, int size, int depth, int width) {
+        validatePage(size, depth, width);
+        List<Comment> roots = commentRepository.findRootsAfter(
+                postId, afterId == null ? 0L : afterId, PageRequest.ofSize(size + 1));
+        return toSlice(roots, size, depth, width);
+    }
+
+    public Slice<CommentNode> getReplies(Long commentId, Long afterId, int size, int depth, int width) {
+        validatePage(size, depth, width);
+        if (!commentRepository.existsById(commentId)) {
+            throw new NotFoundException("Comment", commentId);
+        }
+        List<Comment> replies = commentRepository.findRepliesAfter(
+                commentId, afterId == null ? 0L : afterId, PageRequest.ofSize(size + 1));
+        return toSlice(replies, size, depth, width);
+    }
+
+    public List<Comment> getThread(Long postId, int maxDepth) {
+        return commentRepository.findThread(postId, maxDepth);
+    }
+
+    public List<Comment> getSubtree(Long id) {
+        Comment comment = commentRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Comment", id));
+        if (!hasCompletePaths(comment)) {
+            return collectSubtree(comment);
+        }
+        return commentRepository.findSubtree(comment.getPost().getId(), comment.subtreePattern());
+    }
+
+    public CommentThreadVersion getThreadVersion(Long postId) {
+        return commentRepository.findThreadVersion(postId);
     }
 
     @Transactional
@@ -60,6 +154,94 @@ public class CommentService {
     public void deleteComment(Long id) {
         Comment comment = commentRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Comment", id));
-        commentRepository.delete(comment);
+        Long postId = comment.getPost().getId();
+        int removed;
+        if (hasCompletePaths(comment)) {
+            commentRepository.detachSubtree(postId, comment.subtreePattern());
+            removed = commentRepository.deleteSubtree(postId, comment.subtreePattern());
+        } else {
+            List<Long> ids = collectSubtree(comment).stream().map(Comment::getId).toList();
+            commentRepository.detachAllByIdIn(ids);
+            removed = commentRepository.deleteAllByIdIn(ids);
+        }
+        postService.adjustCommentCount(postId, -removed);
+    }
+
+    private boolean hasCompletePaths(Comment comment) {
+        return comment.getPath() != null
+                && !commentRepository.existsByPostIdAndPathIsNull(comment.getPost().getId());
+    }
+
+    private List<Comment> collectSubtree(Comment root) {
+        Map<Long, List<Comment>> children = new HashMap<>();
+        List<Long> frontier = List.of(root.getId());
+        while (!frontier.isEmpty()) {
+            List<Comment> level = commentRepository.findAllByParentIdIn(frontier);
+            level.forEach(child -> children.computeIfAbsent(child.getParent().getId(), key -> new ArrayList<>()).add(child));
+            frontier = level.stream().map(Comment::getId).toList();
+        }
+
+        List<Comment> ordered = new ArrayList<>();
+        Deque<Comment> pending = new ArrayDeque<>(List.of(root));
+        while (!pending.isEmpty()) {
+            Comment comment = pending.pop();
+            ordered.add(comment);
+            children.getOrDefault(comment.getId(), List.of()).reversed().forEach(pending::push);
+        }
+        return ordered;
+    }
+
+    private void validatePage(int size, int depth, int width) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (depth < 0 || depth > MAX_PREVIEW_DEPTH) {
+            throw new InvalidRequestException("depth must be between 0 and " + MAX_PREVIEW_DEPTH);
+        }
+        if (width < 1 || width > MAX_PREVIEW_WIDTH) {
+            throw new InvalidRequestException("width must be between 1 and " + MAX_PREVIEW_WIDTH);
+        }
+    }
+
+    private Slice<CommentNode> toSlice(List<Comment> comments, int size, int depth, int width) {
+        boolean hasNext = comments.size() > size;
+        List<Comment> content = hasNext ? comments.subList(0, size) : comments;
+        return new SliceImpl<>(expand(content, depth, width), PageRequest.ofSize(size), hasNext);
+    }
+
+    private List<CommentNode> expand(List<Comment> comments, int depth, int width) {
+        Map<Long, List<Comment>> children = new HashMap<>();
+        List<Long> frontier = comments.stream().map(Comment::getId).toList();
+        for (int level = 0; level < depth && !frontier.isEmpty(); level++) {
+            List<Long> replyIds = commentRepository.findFirstReplyIds(frontier, width + 1);
+            List<Long> next = new ArrayList<>();
+            if (!replyIds.isEmpty()) {
+                for (Comment reply : commentRepository.findAllByIdInOrderById(replyIds)) {
+                    List<Comment> siblings = children.computeIfAbsent(reply.getParent().getId(), key -> new ArrayList<>());
+                    siblings.add(reply);
+                    if (siblings.size() <= width) {
+                        next.add(reply.getId());
+                    }
+                }
+            }
+            frontier = next;
+        }
+        Set<Long> collapsed = frontier.isEmpty()
+                ? Set.of()
+                : new HashSet<>(commentRepository.findParentIdsWithReplies(frontier));
+
+        return comments.stream()
+                .map(comment -> toNode(comment, children, collapsed, width))
+                .toList();
+    }
+
+    private CommentNode toNode(Comment comment, Map<Long, List<Comment>> children, Set<Long> collapsed, int width) {
+        List<Comment> replies = children.getOrDefault(comment.getId(), List.of());
+        List<CommentNode> nodes = replies.stream()
+                .limit(width)
+                .map(reply -> toNode(reply, children, collapsed, width))
+                .toList();
+        boolean hasMoreReplies = replies.size() > width || collapsed.contains(comment.getId());
+        return new CommentNode(comment, nodes, hasMoreReplies);
     }
 }
@@ -0,0 +1,9 @@
+package io.github.tato126.board.domain.comment;
+
+import java.time.LocalDateTime;
+
+public record CommentThreadVersion(
+        long commentCount,
+        LocalDateTime lastModifiedAt
+) {
+}
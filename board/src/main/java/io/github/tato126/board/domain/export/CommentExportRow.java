@@ -0,0 +1,14 @@
+package io.github.tato126.board.domain.export;
+
+import java.time.LocalDateTime;
+
+public record CommentExportRow(
+        Long id,
+        Long postId,
+        Long parentId,
+        String content,
+        String author,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
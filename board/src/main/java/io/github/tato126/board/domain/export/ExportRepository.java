@@ -0,0 +1,38 @@
+package io.github.tato126.board.domain.export;
+
+import io.github.tato126.board.domain.post.Post;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.Repository;
+
+import java.util.stream.Stream;
+
+public interface ExportRepository extends Repository<Post, Long> {
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select new io.github.tato126.board.domain.export.PostExportRow(
+                p.id, p.title, p.content, p.author, p.commentCount, p.createdAt, p.updatedAt)
+            from Post p
+            order by p.id
+            """)
+    Stream<PostExportRow> streamPosts();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select new io.github.tato126.board.domain.export.CommentExportRow(
+                c.id, c.post.id, parent.id, c.content, c.author, c.createdAt, c.updatedAt)
+            from Comment c
+            left join c.parent parent
+            order by c.id
+            """)
+    Stream<CommentExportRow> streamComments();
+}
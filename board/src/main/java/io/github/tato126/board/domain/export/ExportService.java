@@ -0,0 +1,52 @@
+package io.github.tato126.board.domain.export;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SequenceWriter;
+
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ExportService {
+
+    static final int FLUSH_INTERVAL = 1000;
+
+    private final ExportRepository exportRepository;
+    private final ObjectMapper objectMapper;
+
+    public long exportPosts(OutputStream outputStream) {
+        try (Stream<PostExportRow> rows = exportRepository.streamPosts()) {
+            return write(rows, outputStream);
+        }
+    }
+
+    public long exportComments(OutputStream outputStream) {
+        try (Stream<CommentExportRow> rows = exportRepository.streamComments()) {
+            return write(rows, outputStream);
+        }
+    }
+
+    private long write(Stream<?> rows, OutputStream outputStream) {
+        long count = 0;
+        try (SequenceWriter writer = objectMapper.writer()
+                .without(StreamWriteFeature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n")
+                .writeValues(outputStream)) {
+            Iterator<?> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                if (++count % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        return count;
+    }
+}
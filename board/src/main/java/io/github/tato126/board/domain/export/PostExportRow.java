@@ -0,0 +1,14 @@
+package io.github.tato126.board.domain.export;
+
+import java.time.LocalDateTime;
+
+public record PostExportRow(
+        Long id,
+        String title,
+        String content,
+        String author,
+        long commentCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,7 @@
+package io.github.tato126.board.domain.hot;
+
+public record HotPost(
+        Long postId,
+        double score
+) {
+}
@@ -0,0 +1,183 @@
+package io.github.tato126.board.domain.hot;
+
+import io.github.tato126.board.domain.comment.CommentCreatedEvent;
+import io.github.tato126.board.domain.outbox.OutboxEventHandler;
+import io.github.tato126.board.domain.outbox.OutboxMessage;
+import io.github.tato126.board.domain.post.PostDeletedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongSupplier;
+
+@Component
+public class HotPostRanking implements OutboxEventHandler {
+
+    public static final String TRACKED_POSTS_METRIC = "board.posts.hot.tracked";
+
+    private static final Comparator<HotPost> BY_SCORE = Comparator.comparingDouble(HotPost::score)
+            .thenComparing(HotPost::postId);
+
+    private final ConcurrentHashMap<Long, Double> scores = new ConcurrentHashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongSupplier clock;
+    private final double halfLifeMillis;
+    private final int topSize;
+    private final int maxTrackedPosts;
+    private final double minScore;
+    private final double viewWeight;
+    private final double commentWeight;
+    private final double replyWeight;
+    private volatile long epochMillis;
+    private volatile boolean dirty;
+    private volatile List<HotPost> top = List.of();
+
+    @Autowired
+    public HotPostRanking(
+            MeterRegistry meterRegistry,
+            @Value("${board.hot.half-life-minutes}") long halfLifeMinutes,
+            @Value("${board.hot.top-size}") int topSize,
+            @Value("${board.hot.max-tracked-posts}") int maxTrackedPosts,
+            @Value("${board.hot.min-score}") double minScore,
+            @Value("${board.hot.view-weight}") double viewWeight,
+            @Value("${board.hot.comment-weight}") double commentWeight,
+            @Value("${board.hot.reply-weight}") double replyWeight
+    ) {
+        this(System::currentTimeMillis, halfLifeMinutes * 60_000, topSize, maxTrackedPosts, minScore,
+                viewWeight, commentWeight, replyWeight);
+        Gauge.builder(TRACKED_POSTS_METRIC, scores, Map::size).register(meterRegistry);
+    }
+
+    HotPostRanking(
+            LongSupplier clock,
+            long halfLifeMillis,
+            int topSize,
+            int maxTrackedPosts,
+            double minScore,
+            double viewWeight,
+            double commentWeight,
+            double replyWeight
+    ) {
+        this.clock = clock;
+        this.halfLifeMillis = halfLifeMillis;
+        this.topSize = topSize;
+        this.maxTrackedPosts = maxTrackedPosts;
+        this.minScore = minScore;
+        this.viewWeight = viewWeight;
+        this.commentWeight = commentWeight;
+        this.replyWeight = replyWeight;
+        this.epochMillis = clock.getAsLong();
+    }
+
+    @Override
+    public void handle(OutboxMessage message) {
+        switch (message) {
+            case CommentCreatedEvent event ->
+                    record(event.postId(), event.parentId() == null ? commentWeight : replyWeight);
+            case PostDeletedEvent event -> remove(event.postId());
+            default -> {
+            }
+        }
+    }
+
+    public void recordView(Long postId) {
+        record(postId, viewWeight);
+    }
+
+    public void restore(Long postId, double score, long scoredAtMillis) {
+        record(postId, score * Math.pow(2, -(clock.getAsLong() - scoredAtMillis) / halfLifeMillis));
+    }
+
+    public void remove(Long postId) {
+        if (scores.remove(postId) != null) {
+            dirty = true;
+        }
+    }
+
+    public List<HotPost> top(int limit) {
+        List<HotPost> current = top;
+        return current.subList(0, Math.min(limit, current.size()));
+    }
+
+    public List<HotPost> scores() {
+        lock.readLock().lock();
+        try {
+            double growth = growth();
+            return scores.entrySet().stream()
+                    .map(entry -> new HotPost(entry.getKey(), entry.getValue() / growth))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${board.hot.refresh-interval-ms}")
+    public void refresh() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+        top = highest(scores(), topSize);
+    }
+
+    @Scheduled(fixedDelayString = "${board.hot.decay-interval-ms}")
+    public void decay() {
+        lock.writeLock().lock();
+        try {
+            double growth = growth();
+            epochMillis = clock.getAsLong();
+            scores.replaceAll((postId, score) -> score / growth);
+            scores.values().removeIf(score -> score < minScore);
+            if (scores.size() >= maxTrackedPosts) {
+                List<HotPost> kept = highest(scores(), maxTrackedPosts * 9 / 10);
+                scores.clear();
+                kept.forEach(post -> scores.put(post.postId(), post.score()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        dirty = true;
+        refresh();
+    }
+
+    private void record(Long postId, double weight) {
+        lock.readLock().lock();
+        try {
+            if (scores.size() >= maxTrackedPosts && !scores.containsKey(postId)) {
+                return;
+            }
+            scores.merge(postId, weight * growth(), Double::sum);
+        } finally {
+            lock.readLock().unlock();
+        }
+        dirty = true;
+    }
+
+    private double growth() {
+        return Math.pow(2, (clock.getAsLong() - epochMillis) / halfLifeMillis);
+    }
+
+    private static List<HotPost> highest(List<HotPost> posts, int limit) {
+        PriorityQueue<HotPost> heap = new PriorityQueue<>(BY_SCORE);
+        for (HotPost post : posts) {
+            heap.offer(post);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        List<HotPost> ranked = new ArrayList<>(heap);
+        ranked.sort(BY_SCORE.reversed());
+        return List.copyOf(ranked);
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.tato126.board.domain.hot;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "hot_post_scores")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HotPostScore {
+
+    @Id
+    private Long postId;
+
+    @Column(nullable = false)
+    private double score;
+
+    @Column(nullable = false)
+    private LocalDateTime scoredAt;
+}
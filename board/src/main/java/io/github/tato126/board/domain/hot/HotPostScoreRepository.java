@@ -0,0 +1,6 @@
+package io.github.tato126.board.domain.hot;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface HotPostScoreRepository extends JpaRepository<HotPostScore, Long> {
+}
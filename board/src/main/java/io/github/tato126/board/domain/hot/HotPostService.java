@@ -0,0 +1,44 @@
+package io.github.tato126.board.domain.hot;
+
+import io.github.tato126.board.common.exception.InvalidRequestException;
+import io.github.tato126.board.domain.post.PostRepository;
+import io.github.tato126.board.domain.post.PostSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class HotPostService {
+
+    public static final int MAX_SIZE = 100;
+
+    private final HotPostRanking hotPostRanking;
+    private final PostRepository postRepository;
+
+    public List<PostSummary> getHotPosts(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new InvalidRequestException("size must be between 1 and " + MAX_SIZE);
+        }
+        List<Long> ids = hotPostRanking.top(size).stream()
+                .map(HotPost::postId)
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, PostSummary> summaries = postRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(PostSummary::id, Function.identity()));
+        return ids.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.tato126.board.domain.hot;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.ZoneId;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotPostSnapshotter {
+
+    private static final String INSERT_SQL = "insert into hot_post_scores (post_id, score, scored_at) values (?, ?, ?)";
+
+    private final HotPostRanking hotPostRanking;
+    private final HotPostScoreRepository hotPostScoreRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        List<HotPostScore> snapshot = hotPostScoreRepository.findAll();
+        snapshot.forEach(score -> hotPostRanking.restore(
+                score.getPostId(),
+                score.getScore(),
+                score.getScoredAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()));
+        hotPostRanking.refresh();
+        if (!snapshot.isEmpty()) {
+            log.info("Restored hot ranking for {} posts", snapshot.size());
+        }
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${board.hot.snapshot-interval-ms}")
+    public synchronized void snapshot() {
+        Timestamp scoredAt = new Timestamp(System.currentTimeMillis());
+        List<Object[]> rows = hotPostRanking.scores().stream()
+                .map(post -> new Object[]{post.postId(), post.score(), scoredAt})
+                .toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update("delete from hot_post_scores");
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+            });
+        } catch (DataAccessException e) {
+            log.warn("Failed to snapshot hot ranking for {} posts", rows.size(), e);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package io.github.tato126.board.domain.outbox;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    static final String PARKED_METRIC = "board.outbox.parked";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final List<OutboxEventHandler> handlers;
+    private final ExecutorService executor;
+    private final int batchSize;
+    private final int maxBatchesPerDrain;
+    private final Duration lease;
+    private final Duration retryBackoff;
+    private final int maxAttempts;
+    private final boolean schedulingEnabled;
+
+    public OutboxDispatcher(
+            OutboxEventRepository outboxEventRepository,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            List<OutboxEventHandler> handlers,
+            @Value("${board.outbox.parallelism}") int parallelism,
+            @Value("${board.outbox.batch-size}") int batchSize,
+            @Value("${board.outbox.max-batches-per-drain}") int maxBatchesPerDrain,
+            @Value("${board.outbox.lease-ms}") long leaseMillis,
+            @Value("${board.outbox.retry-backoff-ms}") long retryBackoffMillis,
+            @Value("${board.outbox.max-attempts}") int maxAttempts,
+            @Value("${board.outbox.scheduling-enabled}") boolean schedulingEnabled,
+            MeterRegistry meterRegistry
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.handlers = handlers;
+        this.executor = Executors.newFixedThreadPool(parallelism);
+        this.batchSize = batchSize;
+        this.maxBatchesPerDrain = maxBatchesPerDrain;
+        this.lease = Duration.ofMillis(leaseMillis);
+        this.retryBackoff = Duration.ofMillis(retryBackoffMillis);
+        this.maxAttempts = maxAttempts;
+        this.schedulingEnabled = schedulingEnabled;
+        Gauge.builder(PARKED_METRIC, outboxEventRepository, OutboxEventRepository::countByFailedTrue)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${board.outbox.poll-interval-ms}")
+    public void scheduledDrain() {
+        if (schedulingEnabled) {
+            drain();
+        }
+    }
+
+    public void drain() {
+        List<OutboxEvent> batch;
+        int batches = 0;
+        do {
+            batch = claim();
+            if (!batch.isEmpty()) {
+                dispatch(batch);
+            }
+        } while (batch.size() == batchSize && ++batches < maxBatchesPerDrain);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private List<OutboxEvent> claim() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> events = outboxEventRepository.findDue(now, PageRequest.ofSize(batchSize));
+            events.forEach(event -> event.delayUntil(now.plus(lease)));
+            return events;
+        });
+    }
+
+    private void dispatch(List<OutboxEvent> events) {
+        Queue<Long> delivered = new ConcurrentLinkedQueue<>();
+        Queue<Long> failed = new ConcurrentLinkedQueue<>();
+        Queue<Long> released = new ConcurrentLinkedQueue<>();
+
+        CompletableFuture<?>[] tasks = events.stream()
+                .collect(Collectors.groupingBy(OutboxEvent::getAggregateId, LinkedHashMap::new, Collectors.toList()))
+                .values().stream()
+                .map(group -> CompletableFuture.runAsync(() -> deliver(group, delivered, failed, released), executor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(tasks).join();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!delivered.isEmpty()) {
+                outboxEventRepository.deleteAllByIdIn(delivered);
+            }
+            LocalDateTime now = LocalDateTime.now();
+            for (OutboxEvent event : outboxEventRepository.findAllById(failed)) {
+                event.retryAt(now.plus(backoff(event.getAttempts())), maxAttempts);
+                if (event.isFailed()) {
+                    log.error("Outbox event {} ({}) failed {} times and was parked; "
+                                    + "later events for aggregate {} are held until it is requeued or skipped",
+                            event.getId(), event.getEventType(), event.getAttempts(), event.getAggregateId());
+                }
+            }
+            for (OutboxEvent event : outboxEventRepository.findAllById(released)) {
+                event.delayUntil(now);
+            }
+        });
+    }
+
+    private void deliver(List<OutboxEvent> group, Queue<Long> delivered, Queue<Long> failed, Queue<Long> released) {
+        for (int i = 0; i < group.size(); i++) {
+            OutboxEvent event = group.get(i);
+            try {
+                OutboxMessage message = (OutboxMessage) objectMapper.readValue(
+                        event.getPayload(), Class.forName(event.getEventType()));
+                handlers.forEach(handler -> handler.handle(message));
+                delivered.add(event.getId());
+            } catch (Exception e) {
+                log.warn("Failed to deliver outbox event {} ({})", event.getId(), event.getEventType(), e);
+                failed.add(event.getId());
+                group.subList(i + 1, group.size()).forEach(next -> released.add(next.getId()));
+                return;
+            }
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        return retryBackoff.multipliedBy(1L << Math.min(attempts, 10));
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.tato126.board.domain.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Component
+@Endpoint(id = "outbox")
+@RequiredArgsConstructor
+public class OutboxEndpoint {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @ReadOperation
+    public List<ParkedOutboxEvent> parked() {
+        return outboxEventRepository.findAllByFailedTrueOrderById().stream()
+                .map(ParkedOutboxEvent::from)
+                .toList();
+    }
+
+    @WriteOperation
+    public int requeue(@Selector Long id) {
+        int requeued = transactionTemplate.execute(status ->
+                outboxEventRepository.requeueParked(id, LocalDateTime.now()));
+        if (requeued > 0) {
+            log.info("Requeued parked outbox event {}", id);
+        }
+        return requeued;
+    }
+
+    @DeleteOperation
+    public int skip(@Selector Long id) {
+        int skipped = transactionTemplate.execute(status -> outboxEventRepository.deleteParked(id));
+        if (skipped > 0) {
+            log.warn("Skipped parked outbox event {}", id);
+        }
+        return skipped;
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.tato126.board.domain.outbox;
+
+import io.github.tato126.board.domain.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_failed_available_at", columnList = "failed, available_at"),
+        @Index(name = "idx_outbox_events_aggregate_id_id", columnList = "aggregate_id, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_id_generator")
+    @SequenceGenerator(name = "outbox_event_id_generator", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, length = 200)
+    private String eventType;
+
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private boolean failed;
+
+    @Column(nullable = false)
+    private LocalDateTime availableAt;
+
+    @Builder
+    public OutboxEvent(String eventType, Long aggregateId, String payload) {
+        this.eventType = eventType;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+        this.availableAt = LocalDateTime.now();
+    }
+
+    public void delayUntil(LocalDateTime availableAt) {
+        this.availableAt = availableAt;
+    }
+
+    public void retryAt(LocalDateTime availableAt, int maxAttempts) {
+        this.attempts++;
+        this.failed = attempts >= maxAttempts;
+        this.availableAt = availableAt;
+    }
+}
@@ -0,0 +1,6 @@
+package io.github.tato126.board.domain.outbox;
+
+public interface OutboxEventHandler {
+
+    void handle(OutboxMessage message);
+}
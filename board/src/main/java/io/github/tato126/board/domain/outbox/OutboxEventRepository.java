@@ -0,0 +1,50 @@
+package io.github.tato126.board.domain.outbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+    @Query("""
+            select e from OutboxEvent e
+            where e.failed = false and e.availableAt <= :now
+              and not exists (
+                  select 1 from OutboxEvent earlier
+                  where earlier.aggregateId = e.aggregateId
+                    and earlier.id < e.id
+                    and (earlier.failed = true or earlier.availableAt > :now)
+              )
+            order by e.id
+            """)
+    List<OutboxEvent> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("delete from OutboxEvent e where e.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    long countByFailedTrue();
+
+    List<OutboxEvent> findAllByFailedTrueOrderById();
+
+    @Modifying
+    @Query("update OutboxEvent e set e.failed = false, e.attempts = 0, e.availableAt = :now where e.id = :id and e.failed = true")
+    int requeueParked(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from OutboxEvent e where e.id = :id and e.failed = true")
+    int deleteParked(@Param("id") Long id);
+}
@@ -0,0 +1,6 @@
+package io.github.tato126.board.domain.outbox;
+
+public interface OutboxMessage {
+
+    Long aggregateId();
+}
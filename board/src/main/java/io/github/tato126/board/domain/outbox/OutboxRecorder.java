@@ -0,0 +1,24 @@
+package io.github.tato126.board.domain.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tools.jackson.databind.ObjectMapper;
+
+@Component
+@RequiredArgsConstructor
+public class OutboxRecorder {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void record(OutboxMessage message) {
+        outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(message.getClass().getName())
+                .aggregateId(message.aggregateId())
+                .payload(objectMapper.writeValueAsString(message))
+                .build());
+    }
+}
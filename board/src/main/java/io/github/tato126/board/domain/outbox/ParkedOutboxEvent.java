@@ -0,0 +1,21 @@
+package io.github.tato126.board.domain.outbox;
+
+import java.time.LocalDateTime;
+
+public record ParkedOutboxEvent(
+        Long id,
+        String eventType,
+        Long aggregateId,
+        int attempts,
+        LocalDateTime parkedAt
+) {
+    public static ParkedOutboxEvent from(OutboxEvent event) {
+        return new ParkedOutboxEvent(
+                event.getId(),
+                event.getEventType(),
+                event.getAggregateId(),
+                event.getAttempts(),
+                event.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.tato126.board.domain.post;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountReconciler {
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+
+    @Value("${board.comment-count.reconcile-batch-size}")
+    private int batchSize;
+
+    @Scheduled(cron = "${board.comment-count.reconcile-cron}")
+    public void reconcile() {
+        Cache posts = cacheManager.getCache(PostService.POST_CACHE);
+        long afterId = 0L;
+        int repaired = 0;
+        List<Long> ids;
+        do {
+            ids = postRepository.findIdsAfter(afterId, PageRequest.ofSize(batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            List<Long> batch = ids;
+            int updated = transactionTemplate.execute(status -> postRepository.reconcileCommentCounts(batch));
+            if (updated > 0) {
+                batch.forEach(posts::evict);
+            }
+            repaired += updated;
+            afterId = ids.get(ids.size() - 1);
+        } while (ids.size() == batchSize);
+
+        if (repaired > 0) {
+            log.warn("Repaired comment count drift on {} posts", repaired);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.tato126.board.domain.post;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@RequiredArgsConstructor
+public class PostCommentCounter {
+
+    private static final String ADD_SQL = "update posts set comment_count = comment_count + ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public int add(Long postId, long delta) {
+        int updated = jdbcTemplate.update(ADD_SQL, delta, postId);
+        evict(postId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(postId);
+                }
+            });
+        }
+        return updated;
+    }
+
+    private void evict(Long postId) {
+        entityManagerFactory.getCache().evict(Post.class, postId);
+    }
+}
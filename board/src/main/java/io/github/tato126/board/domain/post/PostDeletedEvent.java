@@ -0,0 +1,12 @@
+package io.github.tato126.board.domain.post;
+
+import io.github.tato126.board.domain.outbox.OutboxMessage;
+
+public record PostDeletedEvent(
+        Long postId
+) implements OutboxMessage {
+    @Override
+    public Long aggregateId() {
+        return postId;
+    }
+}
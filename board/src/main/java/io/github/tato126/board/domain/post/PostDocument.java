@@ -0,0 +1,8 @@
+package io.github.tato126.board.domain.post;
+
+public record PostDocument(
+        Long id,
+        String title,
+        String content
+) {
+}
@@ -1,6 +1,84 @@
 package io.github.tato126.board.domain.post;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
+
+    @Query(value = """
+            select new io.github.tato126.board.domain.post.PostSummary(p.id, p.title, p.author, p.createdAt, p.commentCount)
+            from Post p
+            """,
+            countQuery = "select count(p) from Post p")
+    Page<PostSummary> findAllSummaries(Pageable pageable);
+
+    @Query("""
+            select new io.github.tato126.board.domain.post.PostSummary(p.id, p.title, p.author, p.createdAt, p.commentCount)
+            from Post p
+            order by p.createdAt desc, p.id desc
+            """)
+    List<PostSummary> findLatest(Pageable pageable);
+
+    @Query("""
+            select new io.github.tato126.board.domain.post.PostSummary(p.id, p.title, p.author, p.createdAt, p.commentCount)
+            from Post p
+            where p.createdAt <= :createdAt
+              and (p.createdAt < :createdAt or p.id < :id)
+            order by p.createdAt desc, p.id desc
+            """)
+    List<PostSummary> findLatestBefore(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    @Query("""
+            select new io.github.tato126.board.domain.post.PostSummary(p.id, p.title, p.author, p.createdAt, p.commentCount)
+            from Post p
+            where p.id in :ids
+            """)
+    List<PostSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select min(p.id) from Post p")
+    Long findMinId();
+
+    @Query("select max(p.id) from Post p")
+    Long findMaxId();
+
+    @Query("""
+            select new io.github.tato126.board.domain.post.PostDocument(p.id, p.title, p.content)
+            from Post p
+            where p.id >= :fromId and p.id < :toId
+            """)
+    List<PostDocument> findDocumentsInRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("select p.id from Post p where p.id > :afterId order by p.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Post p
+            set p.commentCount = (select count(c) from Comment c where c.post.id = p.id)
+            where p.id in :ids
+              and p.commentCount <> (select count(c) from Comment c where c.post.id = p.id)
+            """)
+    int reconcileCommentCounts(@Param("ids") List<Long> ids);
+
+    @Query("select p.id from Post p where p.author = :author")
+    List<Long> findIdsByAuthor(@Param("author") String author);
+
+    @Query("select p.id from Post p where p.id in :ids order by p.id")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Post p where p.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,18 @@
+package io.github.tato126.board.domain.post;
+
+import io.github.tato126.board.domain.outbox.OutboxMessage;
+
+public record PostSavedEvent(
+        Long postId,
+        String title,
+        String content
+) implements OutboxMessage {
+    public static PostSavedEvent from(Post post) {
+        return new PostSavedEvent(post.getId(), post.getTitle(), post.getContent());
+    }
+
+    @Override
+    public Long aggregateId() {
+        return postId;
+    }
+}
@@ -1,18 +1,43 @@
 package io.github.tato126.board.domain.post;
 
+import io.github.tato126.board.common.exception.InvalidRequestException;
 import io.github.tato126.board.common.exception.NotFoundException;
+import io.github.tato126.board.domain.comment.CommentRepository;
+import io.github.tato126.board.domain.hot.HotPostRanking;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PostService {
 
+    public static final String POST_CACHE = "posts";
+    public static final int MAX_CURSOR_PAGE_SIZE = 100;
+    public static final int BULK_FLUSH_SIZE = 100;
+    public static final int BULK_DELETE_SIZE = 500;
+
     private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final EntityManager entityManager;
+    private final PostViewCounter postViewCounter;
+    private final PostCommentCounter postCommentCounter;
+    private final HotPostRanking hotPostRanking;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Post createPost(String title, String content, String author) {
@@ -21,28 +46,114 @@ public class PostService {
                 .content(content)
                 .author(author)
                 .build();
-        return postRepository.save(post);
+        Post saved = postRepository.save(post);
+        eventPublisher.publishEvent(PostSavedEvent.from(saved));
+        return saved;
+    }
+
+    @Transactional
+    public List<Long> createPosts(List<PostDraft> drafts) {
+        List<Long> ids = new ArrayList<>(drafts.size());
+        for (PostDraft draft : drafts) {
+            Post post = Post.builder()
+                    .title(draft.title())
+                    .content(draft.content())
+                    .author(draft.author())
+                    .build();
+            ids.add(postRepository.save(post).getId());
+            eventPublisher.publishEvent(PostSavedEvent.from(post));
+            if (ids.size() % BULK_FLUSH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        return ids;
+    }
+
+    public Page<PostSummary> getPosts(Pageable pageable) {
+        return postRepository.findAllSummaries(pageable);
     }
 
-    public Page<Post> getPosts(Pageable pageable) {
-        return postRepository.findAll(pageable);
+    public Slice<PostSummary> getPostsByCursor(PostCursor cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new InvalidRequestException("size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+        Pageable limit = PageRequest.ofSize(size + 1);
+        List<PostSummary> posts = cursor == null
+                ? postRepository.findLatest(limit)
+                : postRepository.findLatestBefore(cursor.createdAt(), cursor.id(), limit);
+
+        boolean hasNext = posts.size() > size;
+        List<PostSummary> content = hasNext ? posts.subList(0, size) : posts;
+        return new SliceImpl<>(content, PageRequest.ofSize(size), hasNext);
     }
 
+    @Cacheable(cacheNames = POST_CACHE, key = "#id", sync = true)
     public Post getPost(Long id) {
-        return postRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException("Post", id));
+        return findPost(id);
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void recordView(Long id) {
+        postViewCounter.increment(id);
+        hotPostRanking.recordView(id);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = POST_CACHE, key = "#id")
     public Post updatePost(Long id, String title, String content) {
-        Post post = getPost(id);
+        Post post = findPost(id);
         post.update(title, content);
+        eventPublisher.publishEvent(PostSavedEvent.from(post));
         return post;
     }
 
     @Transactional
+    @CacheEvict(cacheNames = POST_CACHE, key = "#id")
     public void deletePost(Long id) {
-        Post post = getPost(id);
-        postRepository.delete(post);
+        if (!postRepository.existsById(id)) {
+            throw new NotFoundException("Post", id);
+        }
+        deleteAll(List.of(id));
+    }
+
+    @Transactional
+    @CacheEvict(cacheNames = POST_CACHE, allEntries = true)
+    public int deletePosts(List<Long> ids) {
+        List<Long> existing = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += BULK_DELETE_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + BULK_DELETE_SIZE, ids.size()));
+            existing.addAll(postRepository.findIdsByIdIn(chunk));
+        }
+        return deleteAll(existing);
+    }
+
+    @Transactional
+    @CacheEvict(cacheNames = POST_CACHE, allEntries = true)
+    public int deletePostsByAuthor(String author) {
+        return deleteAll(postRepository.findIdsByAuthor(author));
+    }
+
+    @Transactional
+    @CacheEvict(cacheNames = POST_CACHE, key = "#id")
+    public int adjustCommentCount(Long id, long delta) {
+        return postCommentCounter.add(id, delta);
+    }
+
+    private int deleteAll(List<Long> ids) {
+        int deleted = 0;
+        for (int from = 0; from < ids.size(); from += BULK_DELETE_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + BULK_DELETE_SIZE, ids.size()));
+            commentRepository.detachRepliesByPostIdIn(chunk);
+            commentRepository.deleteAllByPostIdIn(chunk);
+            deleted += postRepository.deleteAllByIdIn(chunk);
+        }
+        ids.forEach(id -> eventPublisher.publishEvent(new PostDeletedEvent(id)));
+        return deleted;
+    }
+
+    private Post findPost(Long id) {
+        return postRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Post", id));
     }
 }
@@ -0,0 +1,12 @@
+package io.github.tato126.board.domain.post;
+
+import java.time.LocalDateTime;
+
+public record PostSummary(
+        Long id,
+        String title,
+        String author,
+        LocalDateTime createdAt,
+        long commentCount
+) {
+}
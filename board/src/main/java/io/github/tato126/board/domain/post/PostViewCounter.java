@@ -0,0 +1,135 @@
+package io.github.tato126.board.domain.post;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component
+public class PostViewCounter {
+
+    public static final String PENDING_VIEWS_METRIC = "board.posts.views.pending";
+    public static final String PENDING_POSTS_METRIC = "board.posts.views.pending.posts";
+    public static final String FLUSHED_VIEWS_METRIC = "board.posts.views.flushed";
+
+    private static final String FLUSH_SQL = "update posts set view_count = view_count + ? where id = ?";
+
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean overflowFlushScheduled = new AtomicBoolean();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheManager cacheManager;
+    private final TaskScheduler taskScheduler;
+    private final int maxPendingPosts;
+    private final Counter flushedViews;
+
+    public PostViewCounter(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            EntityManagerFactory entityManagerFactory,
+            CacheManager cacheManager,
+            TaskScheduler taskScheduler,
+            MeterRegistry meterRegistry,
+            @Value("${board.views.max-pending-posts}") int maxPendingPosts
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.cacheManager = cacheManager;
+        this.taskScheduler = taskScheduler;
+        this.maxPendingPosts = maxPendingPosts;
+        this.flushedViews = meterRegistry.counter(FLUSHED_VIEWS_METRIC);
+        Gauge.builder(PENDING_VIEWS_METRIC, this, PostViewCounter::pendingViews).register(meterRegistry);
+        Gauge.builder(PENDING_POSTS_METRIC, pending, Map::size).register(meterRegistry);
+    }
+
+    public void increment(Long postId) {
+        if (pending.size() >= maxPendingPosts && !pending.containsKey(postId)
+                && overflowFlushScheduled.compareAndSet(false, true)) {
+            taskScheduler.schedule(this::flush, Instant.now());
+        }
+        accumulate(postId, 1);
+    }
+
+    public long pendingViews() {
+        return pending.values().stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    @Scheduled(fixedDelayString = "${board.views.flush-interval-ms}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            flushLocked();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushLock.lock();
+        try {
+            flushLocked();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushLocked() {
+        overflowFlushScheduled.set(false);
+        List<Object[]> batch = new ArrayList<>();
+        for (Long postId : pending.keySet()) {
+            Long delta = pending.remove(postId);
+            if (delta != null) {
+                batch.add(new Object[]{delta, postId});
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch));
+            Cache posts = cacheManager.getCache(PostService.POST_CACHE);
+            batch.forEach(row -> {
+                entityManagerFactory.getCache().evict(Post.class, row[1]);
+                posts.evict(row[1]);
+            });
+            flushedViews.increment(batch.stream().mapToLong(row -> (long) row[0]).sum());
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Failed to flush view counts for {} posts, retrying on next flush", batch.size(), e);
+            batch.forEach(row -> accumulate((Long) row[1], (long) row[0]));
+        }
+    }
+
+    private void accumulate(Long postId, long delta) {
+        pending.merge(postId, delta, Long::sum);
+    }
+}
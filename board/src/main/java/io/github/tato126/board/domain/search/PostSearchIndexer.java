@@ -0,0 +1,114 @@
+package io.github.tato126.board.domain.search;
+
+import io.github.tato126.board.domain.outbox.OutboxEventHandler;
+import io.github.tato126.board.domain.outbox.OutboxMessage;
+import io.github.tato126.board.domain.post.PostDeletedEvent;
+import io.github.tato126.board.domain.post.PostDocument;
+import io.github.tato126.board.domain.post.PostRepository;
+import io.github.tato126.board.domain.post.PostSavedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndexer implements OutboxEventHandler {
+
+    private final PostSearchIndex postSearchIndex;
+    private final PostRepository postRepository;
+    private final Lock fence = new ReentrantLock();
+    private List<OutboxMessage> buffered;
+
+    @Value("${board.search.rebuild-parallelism}")
+    private int parallelism;
+
+    @Value("${board.search.rebuild-chunk-size}")
+    private int chunkSize;
+
+    @Override
+    public void handle(OutboxMessage message) {
+        fence.lock();
+        try {
+            if (buffered != null) {
+                buffered.add(message);
+            } else {
+                apply(message);
+            }
+        } finally {
+            fence.unlock();
+        }
+    }
+
+    private void apply(OutboxMessage message) {
+        switch (message) {
+            case PostSavedEvent event -> postSearchIndex.index(event.postId(), event.title(), event.content());
+            case PostDeletedEvent event -> postSearchIndex.remove(event.postId());
+            default -> {
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        fence.lock();
+        try {
+            buffered = new ArrayList<>();
+        } finally {
+            fence.unlock();
+        }
+        try {
+            rebuildFromDatabase();
+        } finally {
+            replayBuffered();
+        }
+    }
+
+    private void rebuildFromDatabase() {
+        Long minId = postRepository.findMinId();
+        Long maxId = postRepository.findMaxId();
+        if (minId == null) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism)) {
+            List<CompletableFuture<Void>> chunks = new ArrayList<>();
+            for (long fromId = minId; fromId <= maxId; fromId += chunkSize) {
+                long from = fromId;
+                chunks.add(CompletableFuture.runAsync(() -> indexRange(from, from + chunkSize), executor));
+            }
+            CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+        }
+        log.info("Rebuilt search index with {} posts in {} ms",
+                postSearchIndex.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    private void replayBuffered() {
+        fence.lock();
+        try {
+            buffered.forEach(this::apply);
+            log.info("Replayed {} search index events received during rebuild", buffered.size());
+            buffered = null;
+        } finally {
+            fence.unlock();
+        }
+    }
+
+    private void indexRange(long fromId, long toId) {
+        for (PostDocument document : postRepository.findDocumentsInRange(fromId, toId)) {
+            postSearchIndex.index(document.id(), document.title(), document.content());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.tato126.board.domain.search;
+
+import io.github.tato126.board.common.exception.InvalidRequestException;
+import io.github.tato126.board.domain.post.PostRepository;
+import io.github.tato126.board.domain.post.PostSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostSearchService {
+
+    private final PostSearchIndex postSearchIndex;
+    private final PostRepository postRepository;
+
+    public Page<PostSummary> search(String query, Pageable pageable) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException("Search query must not be blank");
+        }
+        SearchResult result = postSearchIndex.search(query, (int) pageable.getOffset(), pageable.getPageSize());
+        if (result.hits().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, result.total());
+        }
+
+        List<Long> ids = result.hits().stream()
+                .map(SearchHit::postId)
+                .toList();
+        Map<Long, PostSummary> summaries = postRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(PostSummary::id, Function.identity()));
+        List<PostSummary> ranked = ids.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(ranked, pageable, result.total());
+    }
+}
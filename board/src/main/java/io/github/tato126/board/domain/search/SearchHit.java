@@ -0,0 +1,7 @@
+package io.github.tato126.board.domain.search;
+
+public record SearchHit(
+        Long postId,
+        double score
+) {
+}
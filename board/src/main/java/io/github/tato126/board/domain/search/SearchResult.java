@@ -0,0 +1,9 @@
+package io.github.tato126.board.domain.search;
+
+import java.util.List;
+
+public record SearchResult(
+        List<SearchHit> hits,
+        int total
+) {
+}
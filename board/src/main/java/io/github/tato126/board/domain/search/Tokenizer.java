@@ -0,0 +1,71 @@
+package io.github.tato126.board.domain.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public final class Tokenizer {
+
+    private Tokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        return tokenize(text, false);
+    }
+
+    public static List<String> tokenizeForIndex(String text) {
+        return tokenize(text, true);
+    }
+
+    private static List<String> tokenize(String text, boolean hangulUnigrams) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        StringBuilder run = new StringBuilder();
+        boolean hangulRun = false;
+        for (int i = 0; i < normalized.length(); ) {
+            int codePoint = normalized.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            if (!Character.isLetterOrDigit(codePoint)) {
+                flush(run, hangulRun, hangulUnigrams, tokens);
+                continue;
+            }
+            boolean hangul = isHangul(codePoint);
+            if (!run.isEmpty() && hangul != hangulRun) {
+                flush(run, hangulRun, hangulUnigrams, tokens);
+            }
+            hangulRun = hangul;
+            run.appendCodePoint(codePoint);
+        }
+        flush(run, hangulRun, hangulUnigrams, tokens);
+        return tokens;
+    }
+
+    private static void flush(StringBuilder run, boolean hangul, boolean unigrams, List<String> tokens) {
+        if (run.isEmpty()) {
+            return;
+        }
+        if (hangul && run.length() > 1) {
+            for (int i = 0; i + 1 < run.length(); i++) {
+                tokens.add(run.substring(i, i + 2));
+            }
+            if (unigrams) {
+                for (int i = 0; i < run.length(); i++) {
+                    tokens.add(run.substring(i, i + 1));
+                }
+            }
+        } else {
+            tokens.add(run.toString());
+        }
+        run.setLength(0);
+    }
+
+    private static boolean isHangul(int codePoint) {
+        return Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL;
+    }
+}
@@ -1,17 +1,22 @@
 package io.github.tato126.board.api.comment;
 
+import io.github.tato126.board.api.comment.dto.BulkCreateCommentRequest;
 import io.github.tato126.board.api.comment.dto.CreateCommentRequest;
 import io.github.tato126.board.api.comment.dto.UpdateCommentRequest;
 import io.github.tato126.board.common.exception.GlobalExceptionHandler;
 import io.github.tato126.board.common.exception.NotFoundException;
 import io.github.tato126.board.domain.comment.Comment;
+import io.github.tato126.board.domain.comment.CommentNode;
 import io.github.tato126.board.domain.comment.CommentService;
+import io.github.tato126.board.domain.comment.CommentThreadVersion;
 import io.github.tato126.board.domain.post.Post;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -27,6 +32,8 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -138,6 +145,27 @@ class CommentControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("댓글 일괄 생성 API 테스트")
+    void createComments() throws Exception {
+        // given
+        Long postId = 1L;
+        CreateCommentRequest comment = new CreateCommentRequest();
+        ReflectionTestUtils.setField(comment, "content", "테스트 댓글");
+        ReflectionTestUtils.setField(comment, "author", "댓글 작성자");
+        BulkCreateCommentRequest request = new BulkCreateCommentRequest();
+        ReflectionTestUtils.setField(request, "comments", List.of(comment, comment, comment));
+
+        given(commentService.createComments(eq(postId), any())).willReturn(List.of(1L, 2L, 3L));
+
+        // when & then
+        mockMvc.perform(post("/api/posts/{postId}/comments/bulk", postId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.count").value(3));
+    }
+
     @Test
     @DisplayName("댓글 목록 조회 API 테스트")
     void getComments() throws Exception {
@@ -147,17 +175,38 @@ class CommentControllerTest {
         Comment comment1 = createComment(1L, "댓글1", "작성자1", post);
         Comment comment2 = createComment(2L, "댓글2", "작성자2", post);
 
+        given(commentService.getThreadVersion(postId))
+                .willReturn(new CommentThreadVersion(2, LocalDateTime.now()));
         given(commentService.getComments(postId)).willReturn(List.of(comment1, comment2));
 
         // when & then
         mockMvc.perform(get("/api/posts/{postId}/comments", postId))
                 .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$.length()").value(2))
                 .andExpect(jsonPath("$[0].content").value("댓글1"))
                 .andExpect(jsonPath("$[1].content").value("댓글2"));
     }
 
+    @Test
+    @DisplayName("댓글 스레드 버전이 같으면 트리를 조회하지 않고 304 응답")
+    void getCommentsNotModified() throws Exception {
+        // given
+        Long postId = 1L;
+        given(commentService.getThreadVersion(postId))
+                .willReturn(new CommentThreadVersion(2, LocalDateTime.of(2025, 12, 31, 12, 0)));
+
+        String etag = mockMvc.perform(get("/api/posts/{postId}/comments", postId))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when & then
+        mockMvc.perform(get("/api/posts/{postId}/comments", postId)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        verify(commentService, times(1)).getComments(postId);
+    }
+
     @Test
     @DisplayName("대댓글 생성 API 테스트")
     void createReply() throws Exception {
@@ -287,4 +336,67 @@ class CommentControllerTest {
         mockMvc.perform(delete("/api/comments/{id}", commentId))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    @DisplayName("댓글 스레드 조회 API는 깊이 제한을 전달한다")
+    void getThread() throws Exception {
+        // given
+        Post post = createPost();
+        Comment root = createComment(1L, "댓글", "작성자", post);
+        Comment reply = Comment.builder()
+                .content("답글")
+                .author("작성자")
+                .post(post)
+                .parent(root)
+                .build();
+        ReflectionTestUtils.setField(reply, "id", 2L);
+        given(commentService.getThread(1L, 1)).willReturn(List.of(root, reply));
+
+        // when & then
+        mockMvc.perform(get("/api/posts/{postId}/comments/thread", 1L)
+                        .param("maxDepth", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].parentId").value(1))
+                .andExpect(jsonPath("$[1].depth").value(1));
+    }
+
+    @Test
+    @DisplayName("댓글 커서 조회 API는 다음 커서와 답글 커서를 반환한다")
+    void getCommentsByCursor() throws Exception {
+        // given
+        Post post = createPost();
+        Comment root = createComment(1L, "댓글", "작성자", post);
+        Comment reply = createComment(2L, "답글", "작성자", post);
+        CommentNode node = new CommentNode(root, List.of(new CommentNode(reply, List.of(), false)), true);
+        given(commentService.getRootComments(1L, null, 1, 2, 3))
+                .willReturn(new SliceImpl<>(List.of(node), PageRequest.ofSize(1), true));
+
+        // when & then
+        mockMvc.perform(get("/api/posts/{postId}/comments/cursor", 1L)
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value("1"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.content[0].replies[0].id").value(2))
+                .andExpect(jsonPath("$.content[0].hasMoreReplies").value(true))
+                .andExpect(jsonPath("$.content[0].repliesCursor").value("2"));
+    }
+
+    @Test
+    @DisplayName("답글 더보기 API는 커서를 전달한다")
+    void getReplies() throws Exception {
+        // given
+        Post post = createPost();
+        Comment reply = createComment(3L, "답글", "작성자", post);
+        given(commentService.getReplies(1L, 2L, 20, 2, 3))
+                .willReturn(new SliceImpl<>(List.of(new CommentNode(reply, List.of(), false)), PageRequest.ofSize(20), false));
+
+        // when & then
+        mockMvc.perform(get("/api/comments/{id}/replies", 1L)
+                        .param("cursor", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(3))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
 }
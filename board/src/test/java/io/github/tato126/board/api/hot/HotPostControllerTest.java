@@ -0,0 +1,61 @@
+package io.github.tato126.board.api.hot;
+
+import io.github.tato126.board.common.exception.GlobalExceptionHandler;
+import io.github.tato126.board.common.exception.InvalidRequestException;
+import io.github.tato126.board.domain.hot.HotPostService;
+import io.github.tato126.board.domain.post.PostSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(HotPostController.class)
+@Import(GlobalExceptionHandler.class)
+class HotPostControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private HotPostService hotPostService;
+
+    @Test
+    @DisplayName("인기 게시글 조회 API 테스트")
+    void getHotPosts() throws Exception {
+        // given
+        given(hotPostService.getHotPosts(20)).willReturn(List.of(
+                new PostSummary(3L, "인기 게시글", "작성자", LocalDateTime.now(), 42),
+                new PostSummary(1L, "다음 게시글", "작성자", LocalDateTime.now(), 7)
+        ));
+
+        // when & then
+        mockMvc.perform(get("/api/posts/hot"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(3))
+                .andExpect(jsonPath("$[0].commentCount").value(42));
+    }
+
+    @Test
+    @DisplayName("허용 범위를 벗어난 크기로 조회 시 400 응답")
+    void getHotPostsWithInvalidSize() throws Exception {
+        // given
+        given(hotPostService.getHotPosts(500))
+                .willThrow(new InvalidRequestException("size must be between 1 and 100"));
+
+        // when & then
+        mockMvc.perform(get("/api/posts/hot")
+                        .param("size", "500"))
+                .andExpect(status().isBadRequest());
+    }
+}
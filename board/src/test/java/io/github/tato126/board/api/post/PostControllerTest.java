@@ -1,11 +1,14 @@
 package io.github.tato126.board.api.post;
 
+import io.github.tato126.board.api.post.dto.BulkCreatePostRequest;
+import io.github.tato126.board.api.post.dto.BulkDeletePostRequest;
 import io.github.tato126.board.api.post.dto.CreatePostRequest;
 import io.github.tato126.board.api.post.dto.UpdatePostRequest;
 import io.github.tato126.board.common.exception.GlobalExceptionHandler;
 import io.github.tato126.board.common.exception.NotFoundException;
 import io.github.tato126.board.domain.post.Post;
 import io.github.tato126.board.domain.post.PostService;
+import io.github.tato126.board.domain.post.PostSummary;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,6 +17,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -24,10 +28,13 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -127,13 +134,49 @@ class PostControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("게시글 일괄 생성 API 테스트")
+    void createPosts() throws Exception {
+        // given
+        CreatePostRequest post = new CreatePostRequest();
+        ReflectionTestUtils.setField(post, "title", "테스트 제목");
+        ReflectionTestUtils.setField(post, "content", "테스트 내용");
+        ReflectionTestUtils.setField(post, "author", "작성자");
+        BulkCreatePostRequest request = new BulkCreatePostRequest();
+        ReflectionTestUtils.setField(request, "posts", List.of(post, post));
+
+        given(postService.createPosts(any())).willReturn(List.of(1L, 2L));
+
+        // when & then
+        mockMvc.perform(post("/api/posts/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.count").value(2))
+                .andExpect(jsonPath("$.ids.length()").value(2));
+    }
+
+    @Test
+    @DisplayName("게시글 일괄 생성 API - 유효성 검증 실패 테스트 (빈 목록)")
+    void createPostsValidationFailEmpty() throws Exception {
+        // given
+        BulkCreatePostRequest request = new BulkCreatePostRequest();
+        ReflectionTestUtils.setField(request, "posts", List.of());
+
+        // when & then
+        mockMvc.perform(post("/api/posts/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("게시글 목록 조회 API 테스트")
     void getPosts() throws Exception {
         // given
-        Post post1 = createPost(1L, "제목1", "내용1", "작성자1");
-        Post post2 = createPost(2L, "제목2", "내용2", "작성자2");
-        Page<Post> postPage = new PageImpl<>(List.of(post1, post2), PageRequest.of(0, 10), 2);
+        PostSummary post1 = new PostSummary(1L, "제목1", "작성자1", LocalDateTime.now(), 0L);
+        PostSummary post2 = new PostSummary(2L, "제목2", "작성자2", LocalDateTime.now(), 0L);
+        Page<PostSummary> postPage = new PageImpl<>(List.of(post1, post2), PageRequest.of(0, 10), 2);
 
         given(postService.getPosts(any())).willReturn(postPage);
 
@@ -147,6 +190,33 @@ class PostControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(2));
     }
 
+    @Test
+    @DisplayName("게시글 커서 조회 API 테스트")
+    void getPostsByCursor() throws Exception {
+        // given
+        PostSummary post1 = new PostSummary(2L, "제목2", "작성자2", LocalDateTime.now(), 0L);
+        PostSummary post2 = new PostSummary(1L, "제목1", "작성자1", LocalDateTime.now(), 0L);
+        given(postService.getPostsByCursor(any(), anyInt()))
+                .willReturn(new SliceImpl<>(List.of(post1, post2), PageRequest.ofSize(2), true));
+
+        // when & then
+        mockMvc.perform(get("/api/posts/cursor")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 조회 시 400 응답")
+    void getPostsByCursorInvalidCursor() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/posts/cursor")
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("게시글 단건 조회 API 테스트")
     void getPost() throws Exception {
@@ -158,7 +228,46 @@ class PostControllerTest {
         mockMvc.perform(get("/api/posts/{id}", 1L))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(1L))
-                .andExpect(jsonPath("$.title").value("테스트 제목"));
+                .andExpect(jsonPath("$.title").value("테스트 제목"))
+                .andExpect(jsonPath("$.viewCount").value(0));
+        verify(postService).recordView(1L);
+    }
+
+    @Test
+    @DisplayName("게시글 단건 조회 시 ETag가 같으면 304 응답하고 조회수는 세지 않는다")
+    void getPostNotModified() throws Exception {
+        // given
+        Post post = createPost(1L, "테스트 제목", "테스트 내용", "작성자");
+        given(postService.getPost(1L)).willReturn(post);
+
+        String etag = mockMvc.perform(get("/api/posts/{id}", 1L))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when & then
+        mockMvc.perform(get("/api/posts/{id}", 1L)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(postService, times(1)).recordView(1L);
+    }
+
+    @Test
+    @DisplayName("조회수가 바뀌면 ETag가 달라져 본문을 다시 응답한다")
+    void getPostModifiedWhenViewCountChanges() throws Exception {
+        // given
+        Post post = createPost(1L, "테스트 제목", "테스트 내용", "작성자");
+        given(postService.getPost(1L)).willReturn(post);
+        String etag = mockMvc.perform(get("/api/posts/{id}", 1L))
+                .andReturn().getResponse().getHeader("ETag");
+        ReflectionTestUtils.setField(post, "viewCount", 5L);
+
+        // when & then
+        mockMvc.perform(get("/api/posts/{id}", 1L)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.viewCount").value(5));
     }
 
     @Test
@@ -231,4 +340,33 @@ class PostControllerTest {
         mockMvc.perform(delete("/api/posts/{id}", 999L))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    @DisplayName("게시글 일괄 삭제 API 테스트")
+    void deletePosts() throws Exception {
+        // given
+        BulkDeletePostRequest request = new BulkDeletePostRequest();
+        ReflectionTestUtils.setField(request, "ids", List.of(1L, 2L, 3L));
+        given(postService.deletePosts(List.of(1L, 2L, 3L))).willReturn(3);
+
+        // when & then
+        mockMvc.perform(post("/api/posts/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(3));
+    }
+
+    @Test
+    @DisplayName("작성자 기준 게시글 삭제 API 테스트")
+    void deletePostsByAuthor() throws Exception {
+        // given
+        given(postService.deletePostsByAuthor("작성자")).willReturn(2);
+
+        // when & then
+        mockMvc.perform(delete("/api/posts")
+                        .param("author", "작성자"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(2));
+    }
 }
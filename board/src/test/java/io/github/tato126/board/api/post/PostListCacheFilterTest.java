@@ -0,0 +1,156 @@
+package io.github.tato126.board.api.post;
+
+import io.github.tato126.board.domain.post.PostService;
+import io.github.tato126.board.domain.post.PostSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.filter.ServerHttpObservationFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class PostListCacheFilterTest {
+
+    @Mock
+    private PostService postService;
+
+    private PostListCacheFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        PostListPageCache cache = new PostListPageCache(
+                postService, JsonMapper.builder().build(), new SimpleMeterRegistry(), 5, 20, 60_000, 600_000);
+        filter = new PostListCacheFilter(cache);
+    }
+
+    @Test
+    @DisplayName("첫 페이지는 gzip으로 미리 압축된 응답을 캐시에서 제공한다")
+    void servesGzipFromCache() throws Exception {
+        // given
+        givenPosts();
+
+        // when
+        MockHttpServletResponse first = perform(listRequest("gzip, deflate"));
+        MockHttpServletResponse second = perform(listRequest("gzip, deflate"));
+
+        // then
+        assertThat(second.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(second.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(decode(new GZIPInputStream(new ByteArrayInputStream(second.getContentAsByteArray()))))
+                .contains("\"title\":\"캐시된 게시글\"");
+        assertThat(second.getContentAsByteArray()).isEqualTo(first.getContentAsByteArray());
+        verify(postService, times(1)).getPosts(PageRequest.of(0, 20));
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding에 따라 deflate 또는 무압축 응답을 제공한다")
+    void negotiatesEncoding() throws Exception {
+        // given
+        givenPosts();
+
+        // when
+        MockHttpServletResponse deflated = perform(listRequest("gzip;q=0, deflate"));
+        MockHttpServletResponse plain = perform(listRequest(null));
+
+        // then
+        assertThat(deflated.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("deflate");
+        assertThat(decode(new InflaterInputStream(new ByteArrayInputStream(deflated.getContentAsByteArray()))))
+                .isEqualTo(plain.getContentAsString(StandardCharsets.UTF_8));
+        assertThat(plain.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+    }
+
+    @Test
+    @DisplayName("캐시에서 응답해도 요청 지표에 목록 엔드포인트 패턴을 남긴다")
+    void tagsCachedResponsesWithPattern() throws Exception {
+        // given
+        givenPosts();
+        MockHttpServletRequest request = listRequest("gzip");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ServerRequestObservationContext context = new ServerRequestObservationContext(request, response);
+        request.setAttribute(ServerHttpObservationFilter.CURRENT_OBSERVATION_CONTEXT_ATTRIBUTE, context);
+
+        // when
+        filter.doFilter(request, response, new MockFilterChain());
+
+        // then
+        assertThat(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE)).isEqualTo("/api/posts");
+        assertThat(context.getPathPattern()).isEqualTo("/api/posts");
+    }
+
+    @Test
+    @DisplayName("정렬 조건이나 캐시 범위를 벗어난 페이지는 컨트롤러로 전달한다")
+    void passesThroughUncacheableRequests() throws Exception {
+        // given
+        MockHttpServletRequest sorted = listRequest("gzip");
+        sorted.addParameter("sort", "title");
+        MockHttpServletRequest deep = listRequest("gzip");
+        deep.addParameter("page", "50");
+
+        // when
+        MockFilterChain sortedChain = new MockFilterChain();
+        filter.doFilter(sorted, new MockHttpServletResponse(), sortedChain);
+        MockFilterChain deepChain = new MockFilterChain();
+        filter.doFilter(deep, new MockHttpServletResponse(), deepChain);
+
+        // then
+        assertThat(sortedChain.getRequest()).isSameAs(sorted);
+        assertThat(deepChain.getRequest()).isSameAs(deep);
+        verifyNoInteractions(postService);
+    }
+
+    private void givenPosts() {
+        given(postService.getPosts(any(Pageable.class))).willReturn(new PageImpl<>(
+                List.of(new PostSummary(1L, "캐시된 게시글", "작성자", LocalDateTime.of(2026, 1, 1, 0, 0), 2)),
+                PageRequest.of(0, 20),
+                1));
+    }
+
+    private MockHttpServletRequest listRequest(String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts");
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return request;
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private String decode(InputStream compressed) throws IOException {
+        try (compressed) {
+            return new String(compressed.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
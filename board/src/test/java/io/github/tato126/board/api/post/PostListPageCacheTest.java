@@ -0,0 +1,87 @@
+package io.github.tato126.board.api.post;
+
+import io.github.tato126.board.domain.post.PostService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PostListPageCacheTest {
+
+    @Mock
+    private PostService postService;
+
+    private PostListPageCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PostListPageCache(
+                postService, JsonMapper.builder().build(), new SimpleMeterRegistry(), 5, 20, 60_000, 600_000);
+        given(postService.getPosts(any(Pageable.class))).willReturn(Page.empty(PageRequest.of(0, 20)));
+        cache.get(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(cache);
+    }
+
+    @Test
+    @DisplayName("한 트랜잭션에서 여러 게시글이 바뀌어도 커밋 후 한 번만 갱신한다")
+    void coalescesRefreshPerTransaction() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            cache.onPostChanged();
+        }
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // then
+        assertThat(synchronizations).hasSize(1);
+        assertThat(TransactionSynchronizationManager.hasResource(cache)).isFalse();
+        verify(postService, after(500).times(2)).getPosts(PageRequest.of(0, 20));
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 변경은 목록 캐시를 갱신하지 않는다")
+    void skipsRefreshOnRollback() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        cache.onPostChanged();
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        assertThat(TransactionSynchronizationManager.hasResource(cache)).isFalse();
+        verify(postService, after(200).times(1)).getPosts(PageRequest.of(0, 20));
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.tato126.board.api.search;
+
+import io.github.tato126.board.common.exception.GlobalExceptionHandler;
+import io.github.tato126.board.common.exception.InvalidRequestException;
+import io.github.tato126.board.domain.post.PostSummary;
+import io.github.tato126.board.domain.search.PostSearchService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(SearchController.class)
+@Import(GlobalExceptionHandler.class)
+class SearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private PostSearchService postSearchService;
+
+    @Test
+    @DisplayName("게시글 검색 API 테스트")
+    void searchPosts() throws Exception {
+        // given
+        List<PostSummary> posts = List.of(
+                new PostSummary(2L, "스프링 캐시", "작성자", LocalDateTime.now(), 3),
+                new PostSummary(1L, "캐시 정리", "작성자", LocalDateTime.now(), 0)
+        );
+        given(postSearchService.search(eq("캐시"), any(Pageable.class)))
+                .willReturn(new PageImpl<>(posts, PageRequest.of(0, 20), 2));
+
+        // when & then
+        mockMvc.perform(get("/api/posts/search")
+                        .param("q", "캐시"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].id").value(2))
+                .andExpect(jsonPath("$.content[0].commentCount").value(3));
+    }
+
+    @Test
+    @DisplayName("빈 검색어로 검색 시 400 응답")
+    void searchPostsWithBlankQuery() throws Exception {
+        // given
+        given(postSearchService.search(eq(" "), any(Pageable.class)))
+                .willThrow(new InvalidRequestException("Search query must not be blank"));
+
+        // when & then
+        mockMvc.perform(get("/api/posts/search")
+                        .param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+}
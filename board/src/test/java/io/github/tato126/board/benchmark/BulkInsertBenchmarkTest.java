@@ -0,0 +1,59 @@
+package io.github.tato126.board.benchmark;
+
+import io.github.tato126.board.domain.post.PostDraft;
+import io.github.tato126.board.domain.post.PostRepository;
+import io.github.tato126.board.domain.post.PostService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+@SpringBootTest
+class BulkInsertBenchmarkTest {
+
+    private static final int ROWS = 5_000;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("건별 저장과 배치 저장의 초당 처리 건수 비교")
+    void compareRowsPerSecond() {
+        List<PostDraft> drafts = IntStream.range(0, ROWS)
+                .mapToObj(i -> new PostDraft("제목 " + i, "내용 " + i, "작성자"))
+                .toList();
+
+        long singleStart = System.nanoTime();
+        drafts.forEach(draft -> postService.createPost(draft.title(), draft.content(), draft.author()));
+        long singleNanos = System.nanoTime() - singleStart;
+        postRepository.deleteAllInBatch();
+
+        long bulkStart = System.nanoTime();
+        List<Long> ids = postService.createPosts(drafts);
+        long bulkNanos = System.nanoTime() - bulkStart;
+
+        System.out.printf("per-row save : %,.0f rows/sec%n", rowsPerSecond(singleNanos));
+        System.out.printf("batched bulk : %,.0f rows/sec%n", rowsPerSecond(bulkNanos));
+        assertThat(ids).hasSize(ROWS);
+    }
+
+    private double rowsPerSecond(long nanos) {
+        return ROWS / (nanos / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,14 @@
+package io.github.tato126.board.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class PlatformThreadLoadBenchmarkTest extends ThreadModeLoadBenchmark {
+
+    @Override
+    protected String mode() {
+        return "platform-threads";
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.tato126.board.benchmark;
+
+import io.github.tato126.board.domain.post.PostDraft;
+import io.github.tato126.board.domain.post.PostService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+abstract class ThreadModeLoadBenchmark {
+
+    private static final int CONCURRENCY = 400;
+    private static final int REQUESTS = 20_000;
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Autowired
+    private PostService postService;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    protected abstract String mode();
+
+    @BeforeEach
+    void setUp() {
+        postService.createPosts(IntStream.range(0, 200)
+                .mapToObj(i -> new PostDraft("제목 " + i, "내용 " + i, "작성자"))
+                .toList());
+    }
+
+    @Test
+    @DisplayName("동시 요청 처리량과 지연 시간 측정")
+    void measureThroughput() throws Exception {
+        URI uri = URI.create("http://localhost:" + port + "/api/posts?page=3&size=20");
+        long[] latencies = new long[REQUESTS];
+
+        long start = System.nanoTime();
+        try (ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY)) {
+            List<Future<Integer>> results = new ArrayList<>(REQUESTS);
+            for (int i = 0; i < REQUESTS; i++) {
+                int index = i;
+                results.add(clients.submit(() -> {
+                    long requestStart = System.nanoTime();
+                    HttpResponse<Void> response = client.send(
+                            HttpRequest.newBuilder(uri).GET().build(),
+                            HttpResponse.BodyHandlers.discarding());
+                    latencies[index] = System.nanoTime() - requestStart;
+                    return response.statusCode();
+                }));
+            }
+            for (Future<Integer> result : results) {
+                assertThat(result.get()).isEqualTo(200);
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        System.out.printf("[%s] %,.0f req/sec, p50 %.1f ms, p99 %.1f ms%n",
+                mode(),
+                REQUESTS / (elapsed / 1_000_000_000.0),
+                latencies[REQUESTS / 2] / 1_000_000.0,
+                latencies[(int) (REQUESTS * 0.99)] / 1_000_000.0);
+    }
+}
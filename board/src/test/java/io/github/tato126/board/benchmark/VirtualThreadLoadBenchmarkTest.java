@@ -0,0 +1,16 @@
+package io.github.tato126.board.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@Tag("benchmark")
+@ActiveProfiles("virtual-threads")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class VirtualThreadLoadBenchmarkTest extends ThreadModeLoadBenchmark {
+
+    @Override
+    protected String mode() {
+        return "virtual-threads";
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.tato126.board.common.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveLimitTest {
+
+    private static final long BASELINE_RTT = 20_000_000;
+
+    @Test
+    @DisplayName("동시 처리 수가 한도에 도달하면 요청을 거절한다")
+    void rejectsAboveLimit() {
+        // given
+        AdaptiveLimit limit = new AdaptiveLimit(2, 1, 10, 2.0, 0.2);
+        limit.tryAcquire();
+        limit.tryAcquire();
+
+        // when
+        boolean rejected = !limit.tryAcquire();
+        limit.release(BASELINE_RTT);
+
+        // then
+        assertThat(rejected).isTrue();
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.inflight()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("지연 시간이 안정적이고 한도가 활용되면 한도를 늘린다")
+    void growsWhileLatencyIsStable() {
+        // given
+        AdaptiveLimit limit = new AdaptiveLimit(10, 2, 100, 2.0, 0.2);
+
+        // when
+        saturate(limit, BASELINE_RTT, 50);
+
+        // then
+        assertThat(limit.limit()).isGreaterThan(10);
+    }
+
+    @Test
+    @DisplayName("지연 시간이 급증하면 한도를 줄이되 최소 한도는 유지한다")
+    void shrinksWhenLatencyRises() {
+        // given
+        AdaptiveLimit limit = new AdaptiveLimit(40, 4, 100, 2.0, 0.2);
+        saturate(limit, BASELINE_RTT, 5);
+        int before = limit.limit();
+
+        // when
+        saturate(limit, BASELINE_RTT * 20, 10);
+
+        // then
+        assertThat(limit.limit()).isLessThan(before);
+        assertThat(limit.limit()).isGreaterThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("과부하가 지속되어도 기준 지연 시간이 따라 오르지 않아 한도가 최소 근처에 머문다")
+    void staysShrunkUnderSustainedOverload() {
+        // given
+        AdaptiveLimit limit = new AdaptiveLimit(40, 4, 100, 2.0, 0.2);
+        saturate(limit, BASELINE_RTT, 5);
+
+        // when
+        saturate(limit, BASELINE_RTT * 20, 100);
+
+        // then
+        assertThat(limit.limit()).isLessThanOrEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("과부하가 끝나면 한도를 다시 늘린다")
+    void recoversAfterOverload() {
+        // given
+        AdaptiveLimit limit = new AdaptiveLimit(40, 4, 100, 2.0, 0.2);
+        saturate(limit, BASELINE_RTT, 5);
+        saturate(limit, BASELINE_RTT * 20, 100);
+        int shrunk = limit.limit();
+
+        // when
+        saturate(limit, BASELINE_RTT, 50);
+
+        // then
+        assertThat(limit.limit()).isGreaterThan(shrunk);
+    }
+
+    @Test
+    @DisplayName("한도를 충분히 사용하지 않을 때는 한도를 조정하지 않는다")
+    void ignoresAppLimitedSamples() {
+        // given
+        AdaptiveLimit limit = new AdaptiveLimit(10, 2, 100, 2.0, 0.2);
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            limit.tryAcquire();
+            limit.release(BASELINE_RTT);
+        }
+
+        // then
+        assertThat(limit.limit()).isEqualTo(10);
+    }
+
+    private void saturate(AdaptiveLimit limit, long rttNanos, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            int acquired = 0;
+            while (limit.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limit.release(rttNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package io.github.tato126.board.common.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AdaptiveLimit readLimit;
+    private AdaptiveLimit writeLimit;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        readLimit = new AdaptiveLimit(1, 1, 10, 2.0, 0.2);
+        writeLimit = new AdaptiveLimit(1, 1, 10, 2.0, 0.2);
+        filter = new ConcurrencyLimitFilter(
+                readLimit, writeLimit, "/api/export/", 1, JsonMapper.builder().build(), meterRegistry, 3);
+    }
+
+    @Test
+    @DisplayName("한도를 넘은 요청은 Retry-After와 함께 503으로 즉시 거절한다")
+    void rejectsWithRetryAfter() throws Exception {
+        // given
+        readLimit.tryAcquire();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/posts/1"), response, chain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).contains("SERVICE_UNAVAILABLE");
+        assertThat(chain.getRequest()).isNull();
+        assertThat(meterRegistry.counter(ConcurrencyLimitFilter.REJECTED_METRIC, "type", "read").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("읽기와 쓰기는 서로 다른 한도를 사용한다")
+    void separatesReadAndWriteLimits() throws Exception {
+        // given
+        readLimit.tryAcquire();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/posts"), response, chain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(writeLimit.inflight()).isZero();
+    }
+
+    @Test
+    @DisplayName("비동기 요청은 비동기 처리가 끝날 때 한도를 반환한다")
+    void releasesAsyncRequestOnCompletion() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts/1");
+        request.setAsyncSupported(true);
+        FilterChain chain = (servletRequest, servletResponse) -> servletRequest.startAsync();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        int inflightWhileAsync = readLimit.inflight();
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+
+        // then
+        assertThat(inflightWhileAsync).isEqualTo(1);
+        assertThat(readLimit.inflight()).isZero();
+    }
+
+    @Test
+    @DisplayName("내보내기 스트림은 적응형 읽기 한도를 쓰지 않고 고정 한도로 제한한다")
+    void limitsExportStreamsSeparately() throws Exception {
+        // given
+        MockHttpServletRequest streaming = new MockHttpServletRequest("GET", "/api/export/posts");
+        streaming.setAsyncSupported(true);
+        FilterChain chain = (servletRequest, servletResponse) -> servletRequest.startAsync();
+        filter.doFilter(streaming, new MockHttpServletResponse(), chain);
+        MockHttpServletResponse second = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/export/comments"), second, new MockFilterChain());
+        MockHttpServletResponse read = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/posts/1"), read, new MockFilterChain());
+
+        // then
+        assertThat(second.getStatus()).isEqualTo(503);
+        assertThat(read.getStatus()).isEqualTo(200);
+        assertThat(readLimit.inflight()).isZero();
+        assertThat(meterRegistry.counter(ConcurrencyLimitFilter.REJECTED_METRIC, "type", "stream").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("오래 걸린 내보내기 스트림은 읽기 한도를 줄이지 않는다")
+    void longStreamsDoNotShrinkReadLimit() throws Exception {
+        // given
+        MockHttpServletRequest streaming = new MockHttpServletRequest("GET", "/api/export/posts");
+        streaming.setAsyncSupported(true);
+        FilterChain chain = (servletRequest, servletResponse) -> servletRequest.startAsync();
+        int limitBefore = readLimit.limit();
+
+        // when
+        filter.doFilter(streaming, new MockHttpServletResponse(), chain);
+        ((MockAsyncContext) streaming.getAsyncContext()).complete();
+        MockHttpServletResponse next = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/export/posts"), next, new MockFilterChain());
+
+        // then
+        assertThat(readLimit.limit()).isEqualTo(limitBefore);
+        assertThat(next.getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get(ConcurrencyLimitFilter.INFLIGHT_METRIC).tag("type", "stream").gauge().value())
+                .isZero();
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.tato126.board.common.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesFilterTest {
+
+    private final AtomicBoolean pinned = new AtomicBoolean();
+    private final FilterChain chain = (request, response) -> pinned.set(ReadYourWritesContext.isPinnedToPrimary());
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesContext.clear();
+    }
+
+    @Test
+    @DisplayName("유효한 쿠키가 있으면 요청 동안 주 DB로 고정하고 끝나면 해제한다")
+    void pinsWhileCookieIsValid() throws Exception {
+        // given
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(60_000);
+        MockHttpServletRequest request = requestWithCookie(Long.toString(System.currentTimeMillis() + 1_000));
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(pinned).isTrue();
+        assertThat(ReadYourWritesContext.isPinnedToPrimary()).isFalse();
+    }
+
+    @Test
+    @DisplayName("쿠키의 만료 시각은 고정 시간 이후로 늘어나지 않는다")
+    void clampsFarFutureCookie() throws Exception {
+        // given
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(0);
+        MockHttpServletRequest request = requestWithCookie(Long.toString(Long.MAX_VALUE));
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(pinned).isFalse();
+    }
+
+    @Test
+    @DisplayName("만료되었거나 잘못된 쿠키는 무시한다")
+    void ignoresExpiredOrMalformedCookie() throws Exception {
+        // given
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(60_000);
+
+        // when
+        filter.doFilter(requestWithCookie(Long.toString(System.currentTimeMillis() - 1)), new MockHttpServletResponse(), chain);
+        boolean expired = pinned.get();
+        filter.doFilter(requestWithCookie("not-a-number"), new MockHttpServletResponse(), chain);
+        boolean malformed = pinned.get();
+
+        // then
+        assertThat(expired).isFalse();
+        assertThat(malformed).isFalse();
+    }
+
+    private MockHttpServletRequest requestWithCookie(String value) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts/1");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, value));
+        return request;
+    }
+}
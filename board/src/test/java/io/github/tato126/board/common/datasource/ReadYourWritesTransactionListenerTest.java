@@ -0,0 +1,117 @@
+package io.github.tato126.board.common.datasource;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ReadYourWritesTransactionListenerTest {
+
+    private final ReadYourWritesTransactionListener listener = new ReadYourWritesTransactionListener(2_000);
+
+    @Mock
+    private TransactionExecution transaction;
+
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest("POST", "/api/posts"), response));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        ReadYourWritesContext.clear();
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션이 커밋되면 주 DB로 고정하고 쿠키를 내려준다")
+    void pinsAfterWriteCommit() {
+        // given
+        given(transaction.isReadOnly()).willReturn(false);
+        given(transaction.isNewTransaction()).willReturn(true);
+        long before = System.currentTimeMillis();
+
+        // when
+        listener.afterCommit(transaction, null);
+
+        // then
+        Cookie cookie = response.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        assertThat(ReadYourWritesContext.isPinnedToPrimary()).isTrue();
+        assertThat(cookie).isNotNull();
+        assertThat(Long.parseLong(cookie.getValue())).isBetween(before + 2_000, System.currentTimeMillis() + 2_000);
+        assertThat(cookie.getMaxAge()).isEqualTo(2);
+        assertThat(cookie.isHttpOnly()).isTrue();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 고정하지 않는다")
+    void ignoresReadOnlyTransaction() {
+        // given
+        given(transaction.isReadOnly()).willReturn(true);
+
+        // when
+        listener.afterCommit(transaction, null);
+
+        // then
+        assertThat(ReadYourWritesContext.isPinnedToPrimary()).isFalse();
+        assertThat(response.getCookie(ReadYourWritesFilter.COOKIE_NAME)).isNull();
+    }
+
+    @Test
+    @DisplayName("커밋에 실패하면 고정하지 않는다")
+    void ignoresFailedCommit() {
+        // when
+        listener.afterCommit(transaction, new IllegalStateException("commit failed"));
+
+        // then
+        assertThat(ReadYourWritesContext.isPinnedToPrimary()).isFalse();
+        assertThat(response.getCookie(ReadYourWritesFilter.COOKIE_NAME)).isNull();
+    }
+
+    @Test
+    @DisplayName("바깥 트랜잭션에 참여한 경우에는 고정하지 않는다")
+    void ignoresParticipatingTransaction() {
+        // given
+        given(transaction.isReadOnly()).willReturn(false);
+        given(transaction.isNewTransaction()).willReturn(false);
+
+        // when
+        listener.afterCommit(transaction, null);
+
+        // then
+        assertThat(ReadYourWritesContext.isPinnedToPrimary()).isFalse();
+        assertThat(response.getCookie(ReadYourWritesFilter.COOKIE_NAME)).isNull();
+    }
+
+    @Test
+    @DisplayName("요청 밖의 스케줄러 스레드에서 커밋된 쓰기는 고정하지 않는다")
+    void ignoresCommitsOutsideRequest() {
+        // given
+        RequestContextHolder.resetRequestAttributes();
+        given(transaction.isReadOnly()).willReturn(false);
+        given(transaction.isNewTransaction()).willReturn(true);
+
+        // when
+        listener.afterCommit(transaction, null);
+
+        // then
+        assertThat(ReadYourWritesContext.isPinnedToPrimary()).isFalse();
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.tato126.board.common.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaLagMonitorTest {
+
+    @Mock
+    private JdbcTemplate primary;
+
+    @Mock
+    private JdbcTemplate replica;
+
+    @Test
+    @DisplayName("첫 점검 전에는 복제본을 사용하지 않는다")
+    void unavailableBeforeFirstProbe() {
+        // when
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(primary, replica, 1000, new SimpleMeterRegistry());
+
+        // then
+        assertThat(monitor.isReplicaAvailable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("복제본의 하트비트가 최신이면 사용 가능하다")
+    void availableWhenHeartbeatIsFresh() {
+        // given
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(primary, replica, 1000, new SimpleMeterRegistry());
+        given(primary.update(anyString(), any(Object[].class))).willReturn(1);
+        given(replica.queryForObject(anyString(), eq(Long.class))).willReturn(System.currentTimeMillis());
+
+        // when
+        monitor.probe();
+
+        // then
+        assertThat(monitor.isReplicaAvailable()).isTrue();
+    }
+
+    @Test
+    @DisplayName("복제본의 하트비트가 오래되면 사용하지 않는다")
+    void unavailableWhenHeartbeatIsStale() {
+        // given
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(primary, replica, 1000, new SimpleMeterRegistry());
+        given(primary.update(anyString(), any(Object[].class))).willReturn(1);
+        given(replica.queryForObject(anyString(), eq(Long.class))).willReturn(System.currentTimeMillis() - 5000);
+
+        // when
+        monitor.probe();
+
+        // then
+        assertThat(monitor.isReplicaAvailable()).isFalse();
+        assertThat(monitor.lagMillis()).isGreaterThanOrEqualTo(5000);
+    }
+
+    @Test
+    @DisplayName("복제본 조회에 실패하면 사용하지 않는다")
+    void unavailableWhenReplicaFails() {
+        // given
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(primary, replica, 1000, new SimpleMeterRegistry());
+        given(primary.update(anyString(), any(Object[].class))).willReturn(1);
+        given(replica.queryForObject(anyString(), eq(Long.class)))
+                .willThrow(new DataAccessResourceFailureException("down"));
+
+        // when
+        monitor.probe();
+
+        // then
+        assertThat(monitor.isReplicaAvailable()).isFalse();
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.tato126.board.common.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private ReplicaLagMonitor lagMonitor;
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesContext.clear();
+    }
+
+    @Test
+    @DisplayName("복제본이 정상이면 읽기는 복제본으로 보낸다")
+    void routesToReplica() {
+        // given
+        given(lagMonitor.isReplicaAvailable()).willReturn(true);
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, replica, lagMonitor);
+
+        // when & then
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(ReadTarget.REPLICA);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘으면 읽기는 원본으로 보낸다")
+    void routesToPrimaryWhenReplicaLags() {
+        // given
+        given(lagMonitor.isReplicaAvailable()).willReturn(false);
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, replica, lagMonitor);
+
+        // when & then
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(ReadTarget.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("쓰기 직후에는 읽기도 원본으로 보낸다")
+    void routesToPrimaryAfterWrite() {
+        // given
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, replica, lagMonitor);
+        ReadYourWritesContext.pinPrimaryUntil(System.currentTimeMillis() + 60_000);
+
+        // when & then
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(ReadTarget.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("고정 기간이 지나면 다시 복제본으로 보낸다")
+    void routesToReplicaAfterPinExpires() {
+        // given
+        given(lagMonitor.isReplicaAvailable()).willReturn(true);
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, replica, lagMonitor);
+        ReadYourWritesContext.pinPrimaryUntil(System.currentTimeMillis() - 1);
+
+        // when & then
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(ReadTarget.REPLICA);
+    }
+}
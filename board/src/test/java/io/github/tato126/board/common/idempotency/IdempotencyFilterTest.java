@@ -0,0 +1,235 @@
+package io.github.tato126.board.common.idempotency;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyFilterTest {
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyStore store = new IdempotencyStore(idempotencyRecordRepository, 100, 60);
+        filter = new IdempotencyFilter(store, JsonMapper.builder().build(), 5_000, 64);
+    }
+
+    @Test
+    @DisplayName("같은 키로 재시도하면 서비스를 다시 실행하지 않고 첫 응답을 돌려준다")
+    void replaysFirstResponse() throws Exception {
+        // given
+        MockHttpServletResponse first = perform(createPost("key-1", "제목"), createdChain());
+
+        // when
+        MockHttpServletResponse retry = perform(createPost("key-1", "제목"), createdChain());
+
+        // then
+        assertThat(executions).hasValue(1);
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString()).isEqualTo("{\"id\":1}");
+        verify(idempotencyRecordRepository).save(any(IdempotencyRecord.class));
+    }
+
+    @Test
+    @DisplayName("같은 키를 다른 요청 본문에 사용하면 422 응답")
+    void rejectsKeyReuseWithDifferentBody() throws Exception {
+        // given
+        perform(createPost("key-1", "제목"), createdChain());
+
+        // when
+        MockHttpServletResponse response = perform(createPost("key-1", "다른 제목"), createdChain());
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(422);
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).contains("IDEMPOTENCY_MISMATCH");
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("메모리에 없는 키는 DB에 저장된 응답으로 재생한다")
+    void fallsBackToDatabase() throws Exception {
+        // given
+        MockHttpServletRequest request = createPost("key-1", "제목");
+        IdempotencyRecord record = new IdempotencyRecord("key-1", new IdempotentResponse(
+                "POST /api/posts " + sha256(request.getContentAsByteArray()),
+                201, MediaType.APPLICATION_JSON_VALUE, "{\"id\":7}".getBytes(StandardCharsets.UTF_8)));
+        ReflectionTestUtils.setField(record, "createdAt", LocalDateTime.now());
+        given(idempotencyRecordRepository.findById("key-1")).willReturn(Optional.of(record));
+
+        // when
+        MockHttpServletResponse response = perform(request, createdChain());
+
+        // then
+        assertThat(executions).hasValue(0);
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":7}");
+    }
+
+    @Test
+    @DisplayName("동시에 도착한 중복 요청은 하나만 실행하고 결과를 공유한다")
+    void coalescesConcurrentDuplicates() throws Exception {
+        // given
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slowChain = (request, response) -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            createdChain().doFilter(request, response);
+        };
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            // when
+            Future<MockHttpServletResponse> leader = executor.submit(() -> perform(createPost("key-1", "제목"), slowChain));
+            entered.await(5, TimeUnit.SECONDS);
+            Future<MockHttpServletResponse> follower = executor.submit(() -> perform(createPost("key-1", "제목"), createdChain()));
+            Thread.sleep(100);
+            release.countDown();
+
+            // then
+            assertThat(follower.get(5, TimeUnit.SECONDS).getContentAsString())
+                    .isEqualTo(leader.get(5, TimeUnit.SECONDS).getContentAsString());
+            assertThat(executions).hasValue(1);
+        }
+    }
+
+    @Test
+    @DisplayName("키가 없거나 생성 API가 아닌 요청은 그대로 통과한다")
+    void ignoresRequestsWithoutKey() throws Exception {
+        // given
+        MockHttpServletRequest withoutKey = createPost(null, "제목");
+        MockHttpServletRequest bulk = createPost("key-1", "제목");
+        bulk.setRequestURI("/api/posts/bulk");
+
+        // when
+        perform(withoutKey, createdChain());
+        perform(withoutKey, createdChain());
+        perform(bulk, createdChain());
+        perform(bulk, createdChain());
+
+        // then
+        assertThat(executions).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("본문이 상한을 넘으면 실행하지 않고 413 응답")
+    void rejectsOversizedBody() throws Exception {
+        // given
+        MockHttpServletRequest request = createPost("key-1", "제".repeat(64));
+
+        // when
+        MockHttpServletResponse response = perform(request, createdChain());
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).contains("PAYLOAD_TOO_LARGE");
+        assertThat(executions).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("비동기 읽기 리스너로도 캐시된 본문을 읽을 수 있다")
+    void supportsReadListener() throws Exception {
+        // given
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        AtomicBoolean allRead = new AtomicBoolean();
+        FilterChain nonBlockingChain = (request, response) -> {
+            ServletInputStream input = request.getInputStream();
+            input.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    while (input.isReady() && !input.isFinished()) {
+                        read.write(input.read());
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    allRead.set(true);
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                }
+            });
+            ((HttpServletResponse) response).setStatus(201);
+        };
+
+        // when
+        perform(createPost("key-1", "제목"), nonBlockingChain);
+
+        // then
+        assertThat(allRead).isTrue();
+        assertThat(read.toString(StandardCharsets.UTF_8)).isEqualTo("{\"title\":\"제목\"}");
+    }
+
+    private MockHttpServletRequest createPost(String key, String title) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/posts");
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.HEADER, key);
+        }
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(("{\"title\":\"" + title + "\"}").getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private FilterChain createdChain() {
+        return (request, response) -> {
+            int id = executions.incrementAndGet();
+            request.getInputStream().readAllBytes();
+            HttpServletResponse http = (HttpServletResponse) response;
+            http.setStatus(201);
+            http.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            http.getOutputStream().write(("{\"id\":" + id + "}").getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static String sha256(byte[] body) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+    }
+}
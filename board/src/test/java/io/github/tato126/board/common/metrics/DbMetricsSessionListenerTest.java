@@ -0,0 +1,59 @@
+package io.github.tato126.board.common.metrics;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DbMetricsSessionListenerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        Metrics.addRegistry(registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Metrics.removeRegistry(registry);
+    }
+
+    @Test
+    @DisplayName("세션 종료 시 실행된 SQL 문 수와 시간을 기록한다")
+    void recordsStatementsOnEnd() {
+        // given
+        DbMetricsSessionListener listener = new DbMetricsSessionListener();
+        listener.jdbcConnectionAcquisitionStart();
+        listener.jdbcConnectionAcquisitionEnd();
+        for (int i = 0; i < 3; i++) {
+            listener.jdbcExecuteStatementStart();
+            listener.jdbcExecuteStatementEnd();
+        }
+
+        // when
+        listener.end();
+
+        // then
+        assertThat(registry.get(DbMetricsSessionListener.STATEMENTS_METRIC).tag("uri", "none")
+                .summary().totalAmount()).isEqualTo(3);
+        assertThat(registry.get(DbMetricsSessionListener.TIME_METRIC).tag("uri", "none")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.get(DbMetricsSessionListener.CONNECTION_WAIT_METRIC).tag("uri", "none")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("SQL 문을 실행하지 않은 세션은 기록하지 않는다")
+    void skipsIdleSessions() {
+        // when
+        new DbMetricsSessionListener().end();
+
+        // then
+        assertThat(registry.find(DbMetricsSessionListener.STATEMENTS_METRIC).summary()).isNull();
+    }
+}
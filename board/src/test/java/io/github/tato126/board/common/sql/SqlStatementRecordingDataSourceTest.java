@@ -0,0 +1,97 @@
+package io.github.tato126.board.common.sql;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SqlStatementRecordingDataSourceTest {
+
+    private final Connection connection = mock(Connection.class);
+    private final Statement statement = mock(Statement.class);
+    private final DataSource target = mock(DataSource.class);
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementRecorder.stop();
+    }
+
+    @Test
+    @DisplayName("JPA와 JdbcTemplate이 준비하는 쿼리를 모두 기록한다")
+    void recordsPreparedStatements() throws SQLException {
+        // given
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(mock(PreparedStatement.class));
+        DataSource dataSource = new SqlStatementRecordingDataSource(target);
+        SqlStatementRecorder.start();
+
+        // when
+        Connection recording = dataSource.getConnection();
+        recording.prepareStatement("update posts set comment_count = comment_count + ? where id = ?");
+        recording.prepareStatement("select * from posts where id = ?");
+
+        // then
+        SqlStatementStats stats = SqlStatementRecorder.stop();
+        assertThat(stats.count()).isEqualTo(2);
+        verify(connection).prepareStatement("select * from posts where id = ?");
+    }
+
+    @Test
+    @DisplayName("Statement로 직접 실행한 쿼리도 기록한다")
+    void recordsPlainStatements() throws SQLException {
+        // given
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        DataSource dataSource = new SqlStatementRecordingDataSource(target);
+        SqlStatementRecorder.start();
+
+        // when
+        Connection recording = dataSource.getConnection();
+        Statement created = recording.createStatement();
+        created.executeUpdate("delete from hot_post_scores");
+
+        // then
+        assertThat(SqlStatementRecorder.stop().count()).isEqualTo(1);
+        assertThat(created.getConnection()).isSameAs(recording);
+        verify(statement).executeUpdate("delete from hot_post_scores");
+    }
+
+    @Test
+    @DisplayName("기록을 시작하지 않은 스레드의 쿼리는 무시한다")
+    void ignoresUnrecordedThreads() throws SQLException {
+        // given
+        when(target.getConnection()).thenReturn(connection);
+        DataSource dataSource = new SqlStatementRecordingDataSource(target);
+
+        // when
+        dataSource.getConnection().prepareStatement("select 1");
+        SqlStatementRecorder.start();
+
+        // then
+        assertThat(SqlStatementRecorder.stop().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("래핑된 DataSource와 라우팅 DataSource는 다시 감싸지 않는다")
+    void wrapsOnlyLeafDataSources() {
+        // given
+        SqlStatementRecordingPostProcessor postProcessor = new SqlStatementRecordingPostProcessor();
+        SqlStatementRecordingDataSource recording = new SqlStatementRecordingDataSource(target);
+
+        // when & then
+        assertThat(postProcessor.postProcessAfterInitialization(target, "dataSource"))
+                .isInstanceOf(SqlStatementRecordingDataSource.class);
+        assertThat(postProcessor.postProcessAfterInitialization(recording, "dataSource")).isSameAs(recording);
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.tato126.board.common.sql;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlStatementStatsTest {
+
+    @Test
+    @DisplayName("IN 목록 길이와 공백이 달라도 같은 쿼리 형태로 본다")
+    void normalizesShape() {
+        assertThat(SqlStatementStats.shapeOf("select * from posts where id in (?, ?, ?)"))
+                .isEqualTo(SqlStatementStats.shapeOf("select *  from posts\n where id in (?)"));
+    }
+
+    @Test
+    @DisplayName("임계치 이상 반복된 쿼리 형태를 찾는다")
+    void findsRepeatedShapes() {
+        // given
+        SqlStatementStats stats = new SqlStatementStats();
+        for (int i = 0; i < 5; i++) {
+            stats.record("select * from comments where parent_id=?");
+        }
+        stats.record("select * from posts where id=?");
+
+        // when & then
+        assertThat(stats.count()).isEqualTo(6);
+        assertThat(stats.repeatedShapes(5))
+                .containsOnlyKeys("select * from comments where parent_id=?");
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.tato126.board.domain.comment;
+
+import io.github.tato126.board.domain.post.PostService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class CommentBulkCreateTest {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("플러시 단위를 넘는 댓글 일괄 작성도 모든 행과 경로를 저장한다")
+    void createCommentsAcrossFlushBoundary() {
+        // given
+        Long postId = postService.createPost("제목", "내용", "작성자").getId();
+        int count = PostService.BULK_FLUSH_SIZE * 2 + 50;
+        List<CommentDraft> drafts = IntStream.range(0, count)
+                .mapToObj(i -> new CommentDraft("댓글 " + i, "작성자"))
+                .toList();
+
+        // when
+        List<Long> ids = commentService.createComments(postId, drafts);
+
+        // then
+        assertThat(ids).hasSize(count).doesNotHaveDuplicates().doesNotContainNull();
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from comments where post_id = ?", Long.class, postId)).isEqualTo(count);
+        assertThat(jdbcTemplate.queryForObject(
+                "select comment_count from posts where id = ?", Long.class, postId)).isEqualTo(count);
+        List<String> paths = jdbcTemplate.queryForList(
+                "select path from comments where post_id = ? order by id", String.class, postId);
+        assertThat(paths).containsExactlyElementsOf(ids.stream().sorted().map(Comment::pathSegment).toList());
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.tato126.board.domain.comment;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentPathInterceptorTest {
+
+    private static final String[] PROPERTY_NAMES = {"author", "content", "depth", "path"};
+
+    private final CommentPathInterceptor interceptor = new CommentPathInterceptor();
+
+    @Test
+    @DisplayName("저장 시점에 경로와 깊이를 엔티티와 INSERT 상태에 함께 채운다")
+    void assignsPathIntoInsertState() {
+        // given
+        Comment parent = comment(1L, null);
+        parent.assignPath();
+        Comment reply = comment(2L, parent);
+        Object[] state = {"작성자", "답글", 1, null};
+
+        // when
+        boolean modified = interceptor.onPersist(reply, 2L, state, PROPERTY_NAMES, null);
+
+        // then
+        assertThat(modified).isTrue();
+        assertThat(reply.getPath()).isEqualTo("00000001" + "00000002");
+        assertThat(state).containsExactly("작성자", "답글", 1, "00000001" + "00000002");
+    }
+
+    @Test
+    @DisplayName("부모가 백필 전이면 부모 경로를 먼저 채운 뒤 답글 경로를 만든다")
+    void backfillsLegacyParentFirst() {
+        // given
+        Comment root = comment(1L, null);
+        Comment parent = comment(2L, root);
+        Comment reply = comment(3L, parent);
+        Object[] state = {"작성자", "답글", 2, null};
+
+        // when
+        interceptor.onPersist(reply, 3L, state, PROPERTY_NAMES, null);
+
+        // then
+        assertThat(root.getPath()).isEqualTo("00000001");
+        assertThat(parent.getPath()).isEqualTo("00000001" + "00000002");
+        assertThat(state[3]).isEqualTo("00000001" + "00000002" + "00000003");
+    }
+
+    @Test
+    @DisplayName("경로가 이미 있는 댓글은 건드리지 않는다")
+    void keepsExistingPath() {
+        // given
+        Comment comment = comment(3L, null);
+        ReflectionTestUtils.setField(comment, "path", "legacy");
+        Object[] state = {"작성자", "댓글", 0, "legacy"};
+
+        // when
+        boolean modified = interceptor.onPersist(comment, 3L, state, PROPERTY_NAMES, null);
+
+        // then
+        assertThat(modified).isFalse();
+        assertThat(state[3]).isEqualTo("legacy");
+    }
+
+    private Comment comment(Long id, Comment parent) {
+        Comment comment = Comment.builder()
+                .content("댓글")
+                .author("작성자")
+                .parent(parent)
+                .build();
+        ReflectionTestUtils.setField(comment, "id", id);
+        return comment;
+    }
+}
@@ -1,12 +1,19 @@
 package io.github.tato126.board.domain.comment;
 
+import io.github.tato126.board.common.sql.SqlStatementRecordingPostProcessor;
+import io.github.tato126.board.common.sql.SqlStatementStats;
 import io.github.tato126.board.domain.post.Post;
 import io.github.tato126.board.domain.post.PostRepository;
+import io.github.tato126.board.support.SqlStatementCounter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceUnitUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,6 +21,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
+@Import(SqlStatementRecordingPostProcessor.class)
 class CommentRepositoryTest {
 
     @Autowired
@@ -22,6 +30,9 @@ class CommentRepositoryTest {
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private Post savedPost;
 
     @BeforeEach
@@ -107,6 +118,88 @@ class CommentRepositoryTest {
                 .containsExactlyInAnyOrder("최상위 댓글 1", "최상위 댓글 2");
     }
 
+    @Test
+    @DisplayName("게시글의 댓글 트리를 대댓글 컬렉션과 함께 한 번에 조회")
+    void findAllWithRepliesByPostId() {
+        // given
+        Comment root = commentRepository.save(Comment.builder()
+                .content("최상위 댓글")
+                .author("작성자1")
+                .post(savedPost)
+                .build());
+        Comment reply = commentRepository.save(Comment.builder()
+                .content("대댓글")
+                .author("작성자2")
+                .post(savedPost)
+                .parent(root)
+                .build());
+        commentRepository.save(Comment.builder()
+                .content("대대댓글")
+                .author("작성자3")
+                .post(savedPost)
+                .parent(reply)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Comment> comments = commentRepository.findAllWithRepliesByPostId(savedPost.getId());
+
+        // then
+        PersistenceUnitUtil util = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        assertThat(comments).hasSize(3);
+        assertThat(comments).allSatisfy(comment -> assertThat(util.isLoaded(comment, "replies")).isTrue());
+    }
+
+    @Test
+    @DisplayName("댓글 트리 조회와 순회는 스레드 크기와 무관하게 쿼리 1회로 끝난다")
+    void findAllWithRepliesByPostIdExecutesSingleStatement() {
+        // given
+        Comment parent = null;
+        for (int i = 1; i <= 20; i++) {
+            parent = commentRepository.save(Comment.builder()
+                    .content("댓글 " + i)
+                    .author("작성자")
+                    .post(savedPost)
+                    .parent(i % 4 == 1 ? null : parent)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        SqlStatementStats stats = SqlStatementCounter.count(() ->
+                commentRepository.findAllWithRepliesByPostId(savedPost.getId())
+                        .forEach(comment -> comment.getReplies().forEach(Comment::getContent)));
+
+        // then
+        assertThat(stats.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("댓글 스레드 버전 조회 테스트")
+    void findThreadVersion() {
+        // given
+        commentRepository.save(Comment.builder()
+                .content("댓글 1")
+                .author("작성자")
+                .post(savedPost)
+                .build());
+        commentRepository.save(Comment.builder()
+                .content("댓글 2")
+                .author("작성자")
+                .post(savedPost)
+                .build());
+        entityManager.flush();
+
+        // when
+        CommentThreadVersion version = commentRepository.findThreadVersion(savedPost.getId());
+
+        // then
+        assertThat(version.commentCount()).isEqualTo(2);
+        assertThat(version.lastModifiedAt()).isNotNull();
+    }
+
     @Test
     @DisplayName("대댓글 저장 테스트")
     void saveReply() {
@@ -193,4 +286,168 @@ class CommentRepositoryTest {
         Optional<Comment> deletedComment = commentRepository.findById(commentId);
         assertThat(deletedComment).isEmpty();
     }
+
+    @Test
+    @DisplayName("스레드는 경로 순서로 조회되고 깊이로 제한된다")
+    void findThread() {
+        // given
+        Comment first = saveWithPath("첫 번째 댓글", null);
+        Comment second = saveWithPath("두 번째 댓글", null);
+        Comment reply = saveWithPath("첫 번째 답글", first);
+        saveWithPath("답글의 답글", reply);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Comment> thread = commentRepository.findThread(savedPost.getId(), Integer.MAX_VALUE);
+        List<Comment> shallow = commentRepository.findThread(savedPost.getId(), 1);
+
+        // then
+        assertThat(thread).extracting(Comment::getContent)
+                .containsExactly("첫 번째 댓글", "첫 번째 답글", "답글의 답글", "두 번째 댓글");
+        assertThat(thread).extracting(Comment::getDepth).containsExactly(0, 1, 2, 0);
+        assertThat(shallow).extracting(Comment::getId)
+                .containsExactly(first.getId(), reply.getId(), second.getId());
+    }
+
+    @Test
+    @DisplayName("하위 트리를 재귀 없이 조회하고 삭제한다")
+    void findAndDeleteSubtree() {
+        // given
+        Comment root = saveWithPath("댓글", null);
+        Comment reply = saveWithPath("답글", root);
+        saveWithPath("답글의 답글", reply);
+        Comment sibling = saveWithPath("다른 답글", root);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Comment> subtree = commentRepository.findSubtree(savedPost.getId(), reply.subtreePattern());
+        commentRepository.detachSubtree(savedPost.getId(), reply.subtreePattern());
+        int deleted = commentRepository.deleteSubtree(savedPost.getId(), reply.subtreePattern());
+
+        // then
+        assertThat(subtree).extracting(Comment::getContent).containsExactly("답글", "답글의 답글");
+        assertThat(deleted).isEqualTo(2);
+        assertThat(commentRepository.findAll()).extracting(Comment::getId)
+                .containsExactlyInAnyOrder(root.getId(), sibling.getId());
+    }
+
+    @Test
+    @DisplayName("경로가 없는 댓글은 부모 경로가 채워진 순서대로 백필 대상이 된다")
+    void findPathBackfillCandidates() {
+        // given
+        Comment root = commentRepository.save(Comment.builder()
+                .content("댓글")
+                .author("작성자")
+                .post(savedPost)
+                .build());
+        commentRepository.save(Comment.builder()
+                .content("답글")
+                .author("작성자")
+                .post(savedPost)
+                .parent(root)
+                .build());
+        entityManager.flush();
+        entityManager.createNativeQuery("update comments set path = null").executeUpdate();
+        entityManager.clear();
+
+        // when
+        List<Comment> firstPass = commentRepository.findPathBackfillCandidates(PageRequest.ofSize(10));
+        firstPass.forEach(Comment::assignPath);
+        entityManager.flush();
+        entityManager.clear();
+        List<Comment> secondPass = commentRepository.findPathBackfillCandidates(PageRequest.ofSize(10));
+
+        // then
+        assertThat(firstPass).extracting(Comment::getContent).containsExactly("댓글");
+        assertThat(secondPass).extracting(Comment::getContent).containsExactly("답글");
+    }
+
+    @Test
+    @DisplayName("부모별로 앞선 답글 ID만 제한된 개수로 조회한다")
+    void findFirstReplyIds() {
+        // given
+        Comment first = saveWithPath("첫 번째 댓글", null);
+        Comment second = saveWithPath("두 번째 댓글", null);
+        Comment reply1 = saveWithPath("답글 1", first);
+        Comment reply2 = saveWithPath("답글 2", first);
+        saveWithPath("답글 3", first);
+        Comment reply4 = saveWithPath("답글 4", second);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Long> ids = commentRepository.findFirstReplyIds(List.of(first.getId(), second.getId()), 2);
+
+        // then
+        assertThat(ids).containsExactly(reply1.getId(), reply2.getId(), reply4.getId());
+    }
+
+    @Test
+    @DisplayName("최상위 댓글을 커서 이후부터 조회한다")
+    void findRootsAfter() {
+        // given
+        Comment first = saveWithPath("첫 번째 댓글", null);
+        Comment second = saveWithPath("두 번째 댓글", null);
+        saveWithPath("답글", first);
+        Comment third = saveWithPath("세 번째 댓글", null);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Comment> roots = commentRepository.findRootsAfter(savedPost.getId(), first.getId(), PageRequest.ofSize(10));
+
+        // then
+        assertThat(roots).extracting(Comment::getId).containsExactly(second.getId(), third.getId());
+    }
+
+    @Test
+    @DisplayName("댓글 조회 API가 사용하는 쿼리는 각각 한 번의 SQL로 실행된다")
+    void readQueriesExecuteSingleStatement() {
+        // given
+        Comment root = saveWithPath("댓글", null);
+        Comment reply = saveWithPath("답글", root);
+        saveWithPath("답글의 답글", reply);
+        saveWithPath("다른 댓글", null);
+        entityManager.flush();
+        Long postId = savedPost.getId();
+        List<Long> parentIds = List.of(root.getId(), reply.getId());
+
+        // when
+        int comments = statements(() -> commentRepository.findAllWithRepliesByPostId(postId));
+        int roots = statements(() -> commentRepository.findRootsAfter(postId, 0L, PageRequest.ofSize(10)));
+        int replies = statements(() -> commentRepository.findRepliesAfter(root.getId(), 0L, PageRequest.ofSize(10)));
+        int firstReplies = statements(() -> commentRepository.findFirstReplyIds(parentIds, 5));
+        int previews = statements(() -> commentRepository.findAllByIdInOrderById(parentIds));
+        int parents = statements(() -> commentRepository.findParentIdsWithReplies(parentIds));
+        int thread = statements(() -> commentRepository.findThread(postId, Integer.MAX_VALUE));
+        int subtree = statements(() -> commentRepository.findSubtree(postId, root.subtreePattern()));
+        int version = statements(() -> commentRepository.findThreadVersion(postId));
+
+        // then
+        assertThat(comments).isEqualTo(1);
+        assertThat(roots).isEqualTo(1);
+        assertThat(replies).isEqualTo(1);
+        assertThat(firstReplies).isEqualTo(1);
+        assertThat(previews).isEqualTo(1);
+        assertThat(parents).isEqualTo(1);
+        assertThat(thread).isEqualTo(1);
+        assertThat(subtree).isEqualTo(1);
+        assertThat(version).isEqualTo(1);
+    }
+
+    private int statements(Runnable action) {
+        entityManager.clear();
+        return SqlStatementCounter.count(action).count();
+    }
+
+    private Comment saveWithPath(String content, Comment parent) {
+        return commentRepository.save(Comment.builder()
+                .content(content)
+                .author("작성자")
+                .post(savedPost)
+                .parent(parent)
+                .build());
+    }
 }
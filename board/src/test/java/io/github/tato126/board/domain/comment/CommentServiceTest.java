@@ -1,23 +1,34 @@
 package io.github.tato126.board.domain.comment;
 
+import io.github.tato126.board.common.exception.InvalidRequestException;
 import io.github.tato126.board.common.exception.NotFoundException;
 import io.github.tato126.board.domain.post.Post;
 import io.github.tato126.board.domain.post.PostRepository;
+import io.github.tato126.board.domain.post.PostService;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +43,26 @@ class CommentServiceTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private PostService postService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private Comment legacyComment(Long id, Post post, Comment parent) {
+        Comment comment = Comment.builder()
+                .content("기존 댓글")
+                .author("작성자")
+                .post(post)
+                .parent(parent)
+                .build();
+        ReflectionTestUtils.setField(comment, "id", id);
+        return comment;
+    }
+
     private Post createPost() {
         Post post = Post.builder()
                 .title("테스트 게시글")
@@ -58,7 +89,8 @@ class CommentServiceTest {
                 .build();
         ReflectionTestUtils.setField(comment, "id", 1L);
 
-        given(postRepository.findById(postId)).willReturn(Optional.of(post));
+        given(postService.adjustCommentCount(postId, 1)).willReturn(1);
+        given(postRepository.getReferenceById(postId)).willReturn(post);
         given(commentRepository.save(any(Comment.class))).willReturn(comment);
 
         // when
@@ -68,8 +100,9 @@ class CommentServiceTest {
         assertThat(createdComment.getId()).isEqualTo(1L);
         assertThat(createdComment.getContent()).isEqualTo(content);
         assertThat(createdComment.getAuthor()).isEqualTo(author);
-        verify(postRepository).findById(postId);
+        verify(postRepository).getReferenceById(postId);
         verify(commentRepository).save(any(Comment.class));
+        verify(eventPublisher).publishEvent(new CommentCreatedEvent(1L, postId, null, author));
     }
 
     @Test
@@ -77,11 +110,40 @@ class CommentServiceTest {
     void createCommentPostNotFound() {
         // given
         Long postId = 999L;
-        given(postRepository.findById(postId)).willReturn(Optional.empty());
+        given(postService.adjustCommentCount(postId, 1)).willReturn(0);
 
         // when & then
         assertThatThrownBy(() -> commentService.createComment(postId, "내용", "작성자"))
                 .isInstanceOf(NotFoundException.class);
+        verify(commentRepository, never()).save(any(Comment.class));
+    }
+
+    @Test
+    @DisplayName("댓글 일괄 생성 테스트")
+    void createComments() {
+        // given
+        Long postId = 1L;
+        Post post = createPost();
+        List<CommentDraft> drafts = List.of(
+                new CommentDraft("댓글 1", "작성자1"),
+                new CommentDraft("댓글 2", "작성자2")
+        );
+
+        given(postService.adjustCommentCount(postId, 2)).willReturn(1);
+        given(postRepository.getReferenceById(postId)).willReturn(post);
+        AtomicLong sequence = new AtomicLong();
+        given(commentRepository.save(any(Comment.class))).willAnswer(invocation -> {
+            Comment comment = invocation.getArgument(0);
+            ReflectionTestUtils.setField(comment, "id", sequence.incrementAndGet());
+            return comment;
+        });
+
+        // when
+        List<Long> ids = commentService.createComments(postId, drafts);
+
+        // then
+        assertThat(ids).hasSize(2);
+        verify(commentRepository, times(2)).save(any(Comment.class));
     }
 
     @Test
@@ -97,6 +159,7 @@ class CommentServiceTest {
                 .post(post)
                 .build();
         ReflectionTestUtils.setField(parentComment, "id", parentCommentId);
+        parentComment.assignPath();
 
         Comment reply = Comment.builder()
                 .content("대댓글")
@@ -116,8 +179,11 @@ class CommentServiceTest {
         assertThat(createdReply.getId()).isEqualTo(2L);
         assertThat(createdReply.getContent()).isEqualTo("대댓글");
         assertThat(createdReply.getParent()).isNotNull();
+        assertThat(createdReply.getDepth()).isEqualTo(1);
+        assertThat(parentComment.getReplies()).isEmpty();
         verify(commentRepository).findById(parentCommentId);
         verify(commentRepository).save(any(Comment.class));
+        verify(postService).adjustCommentCount(1L, 1);
     }
 
     @Test
@@ -132,6 +198,26 @@ class CommentServiceTest {
                 .isInstanceOf(NotFoundException.class);
     }
 
+    @Test
+    @DisplayName("경로 길이를 넘는 깊이의 대댓글 생성 시 예외 발생")
+    void createReplyTooDeep() {
+        // given
+        Long parentCommentId = 1L;
+        Comment parentComment = Comment.builder()
+                .content("부모 댓글")
+                .author("부모 작성자")
+                .post(createPost())
+                .build();
+        ReflectionTestUtils.setField(parentComment, "depth", Comment.MAX_DEPTH - 1);
+        given(commentRepository.findById(parentCommentId)).willReturn(Optional.of(parentComment));
+
+        // when & then
+        assertThatThrownBy(() -> commentService.createReply(parentCommentId, "내용", "작성자"))
+                .isInstanceOf(InvalidRequestException.class);
+        verify(commentRepository, never()).save(any(Comment.class));
+        verify(postService, never()).adjustCommentCount(any(), anyLong());
+    }
+
     @Test
     @DisplayName("게시글의 최상위 댓글 목록 조회 테스트")
     void getComments() {
@@ -153,15 +239,23 @@ class CommentServiceTest {
                 .build();
         ReflectionTestUtils.setField(comment2, "id", 2L);
 
-        given(commentRepository.findByPostIdAndParentIsNull(postId))
-                .willReturn(List.of(comment1, comment2));
+        Comment reply = Comment.builder()
+                .content("대댓글")
+                .author("작성자3")
+                .post(post)
+                .parent(comment1)
+                .build();
+        ReflectionTestUtils.setField(reply, "id", 3L);
+
+        given(commentRepository.findAllWithRepliesByPostId(postId))
+                .willReturn(List.of(comment2, reply, comment1));
 
         // when
         List<Comment> comments = commentService.getComments(postId);
 
         // then
-        assertThat(comments).hasSize(2);
-        verify(commentRepository).findByPostIdAndParentIsNull(postId);
+        assertThat(comments).containsExactly(comment1, comment2);
+        verify(commentRepository).findAllWithRepliesByPostId(postId);
     }
 
     @Test
@@ -213,15 +307,67 @@ class CommentServiceTest {
                 .post(post)
                 .build();
         ReflectionTestUtils.setField(comment, "id", commentId);
+        comment.assignPath();
 
         given(commentRepository.findById(commentId)).willReturn(Optional.of(comment));
+        given(commentRepository.deleteSubtree(1L, "00000001%")).willReturn(3);
 
         // when
         commentService.deleteComment(commentId);
 
         // then
         verify(commentRepository).findById(commentId);
-        verify(commentRepository).delete(comment);
+        verify(commentRepository).detachSubtree(1L, "00000001%");
+        verify(postService).adjustCommentCount(1L, -3);
+    }
+
+    @Test
+    @DisplayName("경로 백필 전 댓글은 부모 ID를 따라 하위 트리를 찾아 삭제한다")
+    void deleteLegacyCommentById() {
+        // given
+        Post post = createPost();
+        Comment root = legacyComment(1L, post, null);
+        Comment reply = legacyComment(2L, post, root);
+        Comment nested = legacyComment(3L, post, reply);
+
+        given(commentRepository.findById(1L)).willReturn(Optional.of(root));
+        given(commentRepository.findAllByParentIdIn(List.of(1L))).willReturn(List.of(reply));
+        given(commentRepository.findAllByParentIdIn(List.of(2L))).willReturn(List.of(nested));
+        given(commentRepository.findAllByParentIdIn(List.of(3L))).willReturn(List.of());
+        given(commentRepository.deleteAllByIdIn(List.of(1L, 2L, 3L))).willReturn(3);
+
+        // when
+        commentService.deleteComment(1L);
+
+        // then
+        verify(commentRepository).detachAllByIdIn(List.of(1L, 2L, 3L));
+        verify(commentRepository, never()).deleteSubtree(anyLong(), any());
+        verify(postService).adjustCommentCount(1L, -3);
+    }
+
+    @Test
+    @DisplayName("게시글에 경로가 없는 댓글이 남아 있으면 경로가 있는 댓글도 ID로 하위 트리를 찾는다")
+    void getSubtreeFallsBackWhileBackfillIsPending() {
+        // given
+        Post post = createPost();
+        Comment root = legacyComment(1L, post, null);
+        root.assignPath();
+        Comment first = legacyComment(2L, post, root);
+        Comment second = legacyComment(4L, post, root);
+        Comment nested = legacyComment(3L, post, first);
+
+        given(commentRepository.findById(1L)).willReturn(Optional.of(root));
+        given(commentRepository.existsByPostIdAndPathIsNull(1L)).willReturn(true);
+        given(commentRepository.findAllByParentIdIn(List.of(1L))).willReturn(List.of(first, second));
+        given(commentRepository.findAllByParentIdIn(List.of(2L, 4L))).willReturn(List.of(nested));
+        given(commentRepository.findAllByParentIdIn(List.of(3L))).willReturn(List.of());
+
+        // when
+        List<Comment> subtree = commentService.getSubtree(1L);
+
+        // then
+        assertThat(subtree).containsExactly(root, first, nested, second);
+        verify(commentRepository, never()).findSubtree(anyLong(), any());
     }
 
     @Test
@@ -235,4 +381,53 @@ class CommentServiceTest {
         assertThatThrownBy(() -> commentService.deleteComment(commentId))
                 .isInstanceOf(NotFoundException.class);
     }
+
+    @Test
+    @DisplayName("최상위 댓글을 커서로 조회하고 답글은 너비만큼만 펼친다")
+    void getRootComments() {
+        // given
+        Long postId = 1L;
+        Post post = createPost();
+        Comment first = buildComment(1L, post, null);
+        Comment second = buildComment(2L, post, null);
+        Comment reply1 = buildComment(3L, post, first);
+        Comment reply2 = buildComment(4L, post, first);
+
+        given(commentRepository.findRootsAfter(eq(postId), eq(0L), any(Pageable.class)))
+                .willReturn(List.of(first, second));
+        given(commentRepository.findFirstReplyIds(List.of(1L, 2L), 2)).willReturn(List.of(3L, 4L));
+        given(commentRepository.findAllByIdInOrderById(List.of(3L, 4L))).willReturn(List.of(reply1, reply2));
+        given(commentRepository.findParentIdsWithReplies(List.of(3L))).willReturn(List.of());
+
+        // when
+        Slice<CommentNode> result = commentService.getRootComments(postId, null, 2, 1, 1);
+
+        // then
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.getContent()).hasSize(2);
+        CommentNode node = result.getContent().get(0);
+        assertThat(node.replies()).extracting(reply -> reply.comment().getId()).containsExactly(3L);
+        assertThat(node.hasMoreReplies()).isTrue();
+        assertThat(node.lastReplyId()).isEqualTo(3L);
+        assertThat(result.getContent().get(1).hasMoreReplies()).isFalse();
+    }
+
+    @Test
+    @DisplayName("허용 범위를 벗어난 페이지 크기로 조회 시 예외 발생")
+    void getRootCommentsWithInvalidSize() {
+        // when & then
+        assertThatThrownBy(() -> commentService.getRootComments(1L, null, 0, 1, 1))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    private Comment buildComment(Long id, Post post, Comment parent) {
+        Comment comment = Comment.builder()
+                .content("댓글 " + id)
+                .author("작성자")
+                .post(post)
+                .parent(parent)
+                .build();
+        ReflectionTestUtils.setField(comment, "id", id);
+        return comment;
+    }
 }
@@ -0,0 +1,161 @@
+package io.github.tato126.board.domain.comment;
+
+import io.github.tato126.board.common.sql.SqlStatementStats;
+import io.github.tato126.board.domain.post.Post;
+import io.github.tato126.board.domain.post.PostRepository;
+import io.github.tato126.board.support.SqlStatementCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class CommentWriteCostTest {
+
+    private static final Pattern STATEMENT = Pattern.compile("^(?:(insert into|update|delete from) (\\w+)|select .*? from (\\w+))");
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("댓글 작성 쿼리 수는 스레드 크기와 무관하다")
+    void createCommentIsFlat() {
+        // given
+        Long smallPostId = savePost(1).getId();
+        Long largePostId = savePost(200).getId();
+
+        // when
+        int small = statements(() -> commentService.createComment(smallPostId, "새 댓글", "작성자"));
+        int large = statements(() -> commentService.createComment(largePostId, "새 댓글", "작성자"));
+
+        // then
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    @DisplayName("대댓글 작성 쿼리 수는 형제 댓글 수와 무관하다")
+    void createReplyIsFlat() {
+        // given
+        Long smallParentId = saveParent(1);
+        Long largeParentId = saveParent(200);
+
+        // when
+        int small = statements(() -> commentService.createReply(smallParentId, "새 답글", "작성자"));
+        int large = statements(() -> commentService.createReply(largeParentId, "새 답글", "작성자"));
+
+        // then
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    @DisplayName("댓글 작성은 경로를 포함한 INSERT 한 번으로 끝나고 경로 UPDATE가 없다")
+    void createCommentStatementShapes() {
+        // given
+        Long postId = savePost(0).getId();
+
+        // when
+        Map<String, Integer> shapes = shapes(() -> commentService.createComment(postId, "새 댓글", "작성자"));
+
+        // then
+        assertThat(shapes).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "update posts", 1,
+                "insert into comments", 1,
+                "insert into outbox_events", 1));
+    }
+
+    @Test
+    @DisplayName("대댓글 작성은 부모 조회와 경로를 포함한 INSERT 한 번으로 끝난다")
+    void createReplyStatementShapes() {
+        // given
+        Long parentId = saveParent(0);
+
+        // when
+        Map<String, Integer> shapes = shapes(() -> commentService.createReply(parentId, "새 답글", "작성자"));
+
+        // then
+        assertThat(shapes).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "select comments", 1,
+                "update posts", 1,
+                "insert into comments", 1,
+                "insert into outbox_events", 1));
+    }
+
+    @Test
+    @DisplayName("댓글 삭제는 JdbcTemplate으로 실행하는 댓글 수 갱신까지 쿼리 수에 포함한다")
+    void deleteCommentStatementShapes() {
+        // given
+        Long commentId = saveParent(0);
+
+        // when
+        Map<String, Integer> shapes = shapes(() -> commentService.deleteComment(commentId));
+
+        // then
+        assertThat(shapes).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "select comments", 2,
+                "update comments", 1,
+                "delete from comments", 1,
+                "update posts", 1));
+    }
+
+    private Post savePost(int comments) {
+        Post post = postRepository.save(Post.builder()
+                .title("테스트 제목")
+                .content("테스트 내용")
+                .author("작성자")
+                .build());
+        commentService.createComments(post.getId(), drafts(comments));
+        return post;
+    }
+
+    private Long saveParent(int replies) {
+        Long parentId = commentService.createComment(savePost(0).getId(), "부모 댓글", "작성자").getId();
+        IntStream.range(0, replies).forEach(i -> commentService.createReply(parentId, "답글 " + i, "작성자"));
+        return parentId;
+    }
+
+    private List<CommentDraft> drafts(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new CommentDraft("댓글 " + i, "작성자"))
+                .toList();
+    }
+
+    private int statements(Runnable action) {
+        entityManagerFactory.getCache().evictAll();
+        SqlStatementStats stats = SqlStatementCounter.count(action);
+        return stats.count() - stats.repeatedShapes(1).entrySet().stream()
+                .filter(entry -> entry.getKey().contains("next value for"))
+                .mapToInt(Map.Entry::getValue)
+                .sum();
+    }
+
+    private Map<String, Integer> shapes(Runnable action) {
+        entityManagerFactory.getCache().evictAll();
+        return SqlStatementCounter.count(action).repeatedShapes(1).entrySet().stream()
+                .filter(entry -> !entry.getKey().contains("next value for"))
+                .collect(Collectors.toMap(entry -> kind(entry.getKey()), Map.Entry::getValue, Integer::sum));
+    }
+
+    private String kind(String shape) {
+        Matcher matcher = STATEMENT.matcher(shape);
+        if (!matcher.find()) {
+            return shape;
+        }
+        return matcher.group(1) != null ? matcher.group(1) + " " + matcher.group(2) : "select " + matcher.group(3);
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.tato126.board.domain.export;
+
+import io.github.tato126.board.domain.comment.Comment;
+import io.github.tato126.board.domain.comment.CommentRepository;
+import io.github.tato126.board.domain.post.Post;
+import io.github.tato126.board.domain.post.PostRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class ExportRepositoryTest {
+
+    @Autowired
+    private ExportRepository exportRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("게시글을 ID 순서대로 스트리밍한다")
+    void streamPosts() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            postRepository.save(Post.builder()
+                    .title("제목 " + i)
+                    .content("내용 " + i)
+                    .author("작성자")
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<PostExportRow> rows;
+        try (Stream<PostExportRow> stream = exportRepository.streamPosts()) {
+            rows = stream.toList();
+        }
+
+        // then
+        assertThat(rows).extracting(PostExportRow::title)
+                .containsExactly("제목 0", "제목 1", "제목 2");
+        assertThat(rows).allSatisfy(row -> assertThat(row.createdAt()).isNotNull());
+    }
+
+    @Test
+    @DisplayName("최상위 댓글과 답글을 부모 ID와 함께 스트리밍한다")
+    void streamComments() {
+        // given
+        Post post = postRepository.save(Post.builder()
+                .title("제목")
+                .content("내용")
+                .author("작성자")
+                .build());
+        Comment root = commentRepository.save(Comment.builder()
+                .content("댓글")
+                .author("작성자")
+                .post(post)
+                .build());
+        commentRepository.save(Comment.builder()
+                .content("답글")
+                .author("작성자")
+                .post(post)
+                .parent(root)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<CommentExportRow> rows;
+        try (Stream<CommentExportRow> stream = exportRepository.streamComments()) {
+            rows = stream.toList();
+        }
+
+        // then
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).parentId()).isNull();
+        assertThat(rows.get(1).parentId()).isEqualTo(root.getId());
+        assertThat(rows).extracting(CommentExportRow::postId).containsOnly(post.getId());
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.tato126.board.domain.export;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ExportServiceTest {
+
+    @Mock
+    private ExportRepository exportRepository;
+
+    @Test
+    @DisplayName("내보내기가 끝나도 응답 스트림은 닫지 않는다")
+    void leavesOutputStreamOpen() {
+        // given
+        ExportService exportService = new ExportService(exportRepository, JsonMapper.builder().build());
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 0, 0);
+        given(exportRepository.streamPosts()).willReturn(Stream.of(
+                new PostExportRow(1L, "제목 1", "내용", "작성자", 0, now, now),
+                new PostExportRow(2L, "제목 2", "내용", "작성자", 1, now, now)));
+        CloseTrackingOutputStream outputStream = new CloseTrackingOutputStream();
+
+        // when
+        long exported = exportService.exportPosts(outputStream);
+
+        // then
+        assertThat(exported).isEqualTo(2);
+        assertThat(outputStream.closed).isFalse();
+        assertThat(outputStream.toString(StandardCharsets.UTF_8).split("\n")).hasSize(2);
+    }
+
+    private static class CloseTrackingOutputStream extends ByteArrayOutputStream {
+
+        private boolean closed;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.tato126.board.domain.hot;
+
+import io.github.tato126.board.domain.comment.CommentCreatedEvent;
+import io.github.tato126.board.domain.post.PostDeletedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class HotPostRankingTest {
+
+    private static final long HALF_LIFE = 60_000;
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private HotPostRanking ranking;
+
+    @BeforeEach
+    void setUp() {
+        ranking = new HotPostRanking(now::get, HALF_LIFE, 10, 100, 0.01, 0.1, 3, 2);
+    }
+
+    @Test
+    @DisplayName("댓글, 대댓글, 조회수에 가중치를 주어 순위를 매긴다")
+    void ranksByWeightedActivity() {
+        // given
+        ranking.handle(new CommentCreatedEvent(1L, 1L, null, "작성자"));
+        ranking.handle(new CommentCreatedEvent(2L, 2L, 9L, "작성자"));
+        ranking.handle(new CommentCreatedEvent(3L, 2L, 9L, "작성자"));
+        ranking.recordView(3L);
+
+        // when
+        ranking.refresh();
+
+        // then
+        assertThat(ranking.top(10)).extracting(HotPost::postId).containsExactly(2L, 1L, 3L);
+        assertThat(ranking.top(1)).extracting(HotPost::score).containsExactly(4.0);
+    }
+
+    @Test
+    @DisplayName("반감기가 지나면 점수가 절반으로 줄어든다")
+    void decaysOverHalfLife() {
+        // given
+        ranking.handle(new CommentCreatedEvent(1L, 1L, null, "작성자"));
+        now.addAndGet(HALF_LIFE);
+
+        // when
+        ranking.decay();
+
+        // then
+        assertThat(ranking.top(1).get(0).score()).isCloseTo(1.5, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("최근 활동이 오래된 활동보다 높은 점수를 받는다")
+    void recentActivityOutranksOlder() {
+        // given
+        ranking.handle(new CommentCreatedEvent(1L, 1L, null, "작성자"));
+        ranking.handle(new CommentCreatedEvent(2L, 1L, null, "작성자"));
+        now.addAndGet(HALF_LIFE * 2);
+        ranking.handle(new CommentCreatedEvent(3L, 2L, null, "작성자"));
+
+        // when
+        ranking.refresh();
+
+        // then
+        assertThat(ranking.top(10)).extracting(HotPost::postId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글은 순위에서 제외된다")
+    void removesDeletedPosts() {
+        // given
+        ranking.handle(new CommentCreatedEvent(1L, 1L, null, "작성자"));
+        ranking.handle(new CommentCreatedEvent(2L, 2L, null, "작성자"));
+        ranking.refresh();
+
+        // when
+        ranking.handle(new PostDeletedEvent(1L));
+        ranking.refresh();
+
+        // then
+        assertThat(ranking.top(10)).extracting(HotPost::postId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("스냅샷 점수는 저장 이후 경과 시간만큼 감쇠되어 복원된다")
+    void restoresDecayedSnapshot() {
+        // given
+        long scoredAt = now.get();
+        now.addAndGet(HALF_LIFE);
+
+        // when
+        ranking.restore(1L, 8.0, scoredAt);
+        ranking.refresh();
+
+        // then
+        assertThat(ranking.top(1).get(0).score()).isCloseTo(4.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("추적 개수를 넘는 새 게시글은 다음 감쇠 전까지 무시된다")
+    void boundsTrackedPosts() {
+        // given
+        ranking = new HotPostRanking(now::get, HALF_LIFE, 10, 2, 0.01, 0.1, 3, 2);
+        ranking.recordView(1L);
+        ranking.recordView(2L);
+
+        // when
+        ranking.recordView(3L);
+        ranking.recordView(1L);
+
+        // then
+        assertThat(ranking.scores()).extracting(HotPost::postId).containsExactlyInAnyOrder(1L, 2L);
+    }
+}
@@ -0,0 +1,266 @@
+package io.github.tato126.board.domain.outbox;
+
+import io.github.tato126.board.domain.post.Post;
+import io.github.tato126.board.domain.post.PostSavedEvent;
+import io.github.tato126.board.domain.post.PostService;
+import io.github.tato126.board.domain.search.PostSearchIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "board.outbox.scheduling-enabled=false",
+        "board.outbox.batch-size=2",
+        "board.outbox.max-batches-per-drain=2"
+})
+class OutboxDispatcherTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PostSearchIndex postSearchIndex;
+
+    @Autowired
+    private RecordingHandler recordingHandler;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private OutboxEndpoint outboxEndpoint;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository.deleteAll();
+        recordingHandler.received.clear();
+        recordingHandler.failing = false;
+    }
+
+    @Test
+    @DisplayName("쓰기와 같은 트랜잭션에 기록된 이벤트를 비동기로 전달한다")
+    void dispatchesCommittedEvents() {
+        // given
+        Post post = postService.createPost("아웃박스 제목", "아웃박스 내용", "작성자");
+
+        // when
+        outboxDispatcher.drain();
+
+        // then
+        assertThat(recordingHandler.received)
+                .contains(new PostSavedEvent(post.getId(), "아웃박스 제목", "아웃박스 내용"));
+        assertThat(postSearchIndex.search("아웃박스", 0, 10).hits()).isNotEmpty();
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("전달에 실패한 이벤트는 재시도를 위해 남겨둔다")
+    void keepsFailedEventsForRetry() {
+        // given
+        recordingHandler.failing = true;
+        postService.createPost("실패 제목", "실패 내용", "작성자");
+
+        // when
+        outboxDispatcher.drain();
+
+        // then
+        List<OutboxEvent> events = outboxEventRepository.findAll();
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getAttempts()).isEqualTo(1);
+        assertThat(events.get(0).getAvailableAt()).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("앞선 이벤트가 재시도를 기다리는 동안 같은 대상의 이후 이벤트는 전달하지 않는다")
+    void holdsLaterEventsBehindRetryingEvent() {
+        // given
+        recordingHandler.failing = true;
+        Post post = postService.createPost("첫 제목", "내용", "작성자");
+        postService.updatePost(post.getId(), "두 번째 제목", "내용");
+        outboxDispatcher.drain();
+        recordingHandler.failing = false;
+
+        // when
+        outboxDispatcher.drain();
+        List<OutboxMessage> whileRetrying = List.copyOf(recordingHandler.received);
+        makeAllDue();
+        outboxDispatcher.drain();
+
+        // then
+        assertThat(whileRetrying).isEmpty();
+        assertThat(recordingHandler.received).containsExactly(
+                new PostSavedEvent(post.getId(), "첫 제목", "내용"),
+                new PostSavedEvent(post.getId(), "두 번째 제목", "내용"));
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("중단된 이벤트 뒤의 같은 대상 이벤트는 전달하지 않고 다른 대상은 전달한다")
+    void parkedEventBlocksOnlyItsAggregate() {
+        // given
+        Post blocked = postService.createPost("막힌 제목", "내용", "작성자");
+        postService.updatePost(blocked.getId(), "막힌 수정", "내용");
+        transactionTemplate.executeWithoutResult(status -> outboxEventRepository.findAll().stream()
+                .min(Comparator.comparing(OutboxEvent::getId))
+                .orElseThrow()
+                .retryAt(LocalDateTime.now(), 1));
+        Post other = postService.createPost("다른 제목", "내용", "작성자");
+
+        // when
+        outboxDispatcher.drain();
+
+        // then
+        assertThat(recordingHandler.received)
+                .containsExactly(new PostSavedEvent(other.getId(), "다른 제목", "내용"));
+        assertThat(outboxEventRepository.findAll())
+                .extracting(OutboxEvent::getAggregateId)
+                .containsOnly(blocked.getId())
+                .hasSize(2);
+    }
+
+    @Test
+    @DisplayName("중단된 이벤트는 지표와 운영 엔드포인트에서 조회된다")
+    void exposesParkedEvents() {
+        // given
+        Post post = postService.createPost("중단 제목", "내용", "작성자");
+        OutboxEvent parked = park(post.getId());
+
+        // when
+        List<ParkedOutboxEvent> events = outboxEndpoint.parked();
+
+        // then
+        assertThat(events).extracting(ParkedOutboxEvent::id).containsExactly(parked.getId());
+        assertThat(meterRegistry.get(OutboxDispatcher.PARKED_METRIC).gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("중단된 이벤트를 다시 대기열에 넣으면 같은 대상 이벤트가 순서대로 전달된다")
+    void requeuedEventReleasesItsAggregate() {
+        // given
+        Post post = postService.createPost("첫 제목", "내용", "작성자");
+        postService.updatePost(post.getId(), "두 번째 제목", "내용");
+        OutboxEvent parked = park(post.getId());
+        outboxDispatcher.drain();
+
+        // when
+        int requeued = outboxEndpoint.requeue(parked.getId());
+        outboxDispatcher.drain();
+
+        // then
+        assertThat(requeued).isEqualTo(1);
+        assertThat(recordingHandler.received).containsExactly(
+                new PostSavedEvent(post.getId(), "첫 제목", "내용"),
+                new PostSavedEvent(post.getId(), "두 번째 제목", "내용"));
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("중단된 이벤트를 건너뛰면 같은 대상의 이후 이벤트가 전달된다")
+    void skippedEventReleasesItsAggregate() {
+        // given
+        Post post = postService.createPost("첫 제목", "내용", "작성자");
+        postService.updatePost(post.getId(), "두 번째 제목", "내용");
+        OutboxEvent parked = park(post.getId());
+
+        // when
+        int skipped = outboxEndpoint.skip(parked.getId());
+        outboxDispatcher.drain();
+
+        // then
+        assertThat(skipped).isEqualTo(1);
+        assertThat(recordingHandler.received)
+                .containsExactly(new PostSavedEvent(post.getId(), "두 번째 제목", "내용"));
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("중단되지 않은 이벤트는 다시 넣거나 건너뛸 수 없다")
+    void ignoresEventsThatAreNotParked() {
+        // given
+        postService.createPost("제목", "내용", "작성자");
+        Long id = outboxEventRepository.findAll().get(0).getId();
+
+        // when & then
+        assertThat(outboxEndpoint.requeue(id)).isZero();
+        assertThat(outboxEndpoint.skip(id)).isZero();
+        assertThat(outboxEventRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 번의 전달 주기에서 처리하는 배치 수는 상한을 넘지 않는다")
+    void drainStopsAtBatchLimit() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            postService.createPost("제목 " + i, "내용", "작성자");
+        }
+
+        // when
+        outboxDispatcher.drain();
+
+        // then
+        assertThat(recordingHandler.received).hasSize(4);
+        assertThat(outboxEventRepository.count()).isEqualTo(1);
+    }
+
+    private OutboxEvent park(Long aggregateId) {
+        return transactionTemplate.execute(status -> {
+            OutboxEvent first = outboxEventRepository.findAll().stream()
+                    .filter(event -> event.getAggregateId().equals(aggregateId))
+                    .min(Comparator.comparing(OutboxEvent::getId))
+                    .orElseThrow();
+            first.retryAt(LocalDateTime.now(), 1);
+            return first;
+        });
+    }
+
+    private void makeAllDue() {
+        transactionTemplate.executeWithoutResult(status -> outboxEventRepository.findAll()
+                .forEach(event -> event.delayUntil(LocalDateTime.now().minusSeconds(1))));
+    }
+
+    @TestConfiguration
+    static class RecordingHandlerConfig {
+
+        @Bean
+        RecordingHandler recordingHandler() {
+            return new RecordingHandler();
+        }
+    }
+
+    static class RecordingHandler implements OutboxEventHandler {
+
+        private final Queue<OutboxMessage> received = new ConcurrentLinkedQueue<>();
+        private volatile boolean failing;
+
+        @Override
+        public void handle(OutboxMessage message) {
+            if (failing) {
+                throw new IllegalStateException("handler unavailable");
+            }
+            received.add(message);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.tato126.board.domain.outbox;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class OutboxEventRepositoryTest {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("처리 가능한 이벤트만 등록 순서대로 조회한다")
+    void findDue() {
+        // given
+        OutboxEvent first = save(1L);
+        OutboxEvent leased = save(2L);
+        leased.delayUntil(LocalDateTime.now().plusMinutes(5));
+        OutboxEvent parked = save(3L);
+        parked.retryAt(LocalDateTime.now(), 1);
+        OutboxEvent second = save(4L);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<OutboxEvent> due = outboxEventRepository.findDue(LocalDateTime.now().plusSeconds(1), PageRequest.ofSize(10));
+
+        // then
+        assertThat(due).extracting(OutboxEvent::getId).containsExactly(first.getId(), second.getId());
+    }
+
+    @Test
+    @DisplayName("처리된 이벤트를 ID 목록으로 삭제한다")
+    void deleteAllByIdIn() {
+        // given
+        OutboxEvent delivered = save(1L);
+        OutboxEvent pending = save(2L);
+        entityManager.flush();
+
+        // when
+        int deleted = outboxEventRepository.deleteAllByIdIn(List.of(delivered.getId()));
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(outboxEventRepository.findAll()).extracting(OutboxEvent::getId).containsExactly(pending.getId());
+    }
+
+    private OutboxEvent save(Long aggregateId) {
+        return outboxEventRepository.save(OutboxEvent.builder()
+                .eventType("TestEvent")
+                .aggregateId(aggregateId)
+                .payload("{}")
+                .build());
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.tato126.board.domain.post;
+
+import io.github.tato126.board.domain.comment.CommentService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class CommentCountConsistencyTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("게시글 수정 중에 커밋된 댓글 수 증가는 유실되지 않는다")
+    void updatePostKeepsConcurrentCommentCount() {
+        // given
+        Long postId = postService.createPost("제목", "내용", "작성자").getId();
+        TransactionTemplate outer = new TransactionTemplate(transactionManager);
+        TransactionTemplate inner = new TransactionTemplate(transactionManager);
+        inner.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // when
+        outer.executeWithoutResult(status -> {
+            postService.updatePost(postId, "수정된 제목", "수정된 내용");
+            inner.executeWithoutResult(nested -> commentService.createComment(postId, "댓글", "작성자"));
+        });
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("select comment_count from posts where id = ?", Long.class, postId))
+                .isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("select title from posts where id = ?", String.class, postId))
+                .isEqualTo("수정된 제목");
+    }
+}
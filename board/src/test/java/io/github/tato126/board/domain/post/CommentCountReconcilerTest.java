@@ -0,0 +1,89 @@
+package io.github.tato126.board.domain.post;
+
+import io.github.tato126.board.domain.comment.CommentService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "board.comment-count.reconcile-batch-size=2")
+class CommentCountReconcilerTest {
+
+    @Autowired
+    private CommentCountReconciler commentCountReconciler;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("배치 단위로 모든 게시글의 댓글 수 불일치를 복구한다")
+    void repairsDriftAcrossBatches() {
+        // given
+        Long first = postService.createPost("제목 1", "내용", "작성자").getId();
+        Long second = postService.createPost("제목 2", "내용", "작성자").getId();
+        Long third = postService.createPost("제목 3", "내용", "작성자").getId();
+        commentService.createComment(first, "댓글", "작성자");
+        commentService.createComment(third, "댓글", "작성자");
+        commentService.createComment(third, "댓글", "작성자");
+        jdbcTemplate.update("update posts set comment_count = 99 where id in (?, ?, ?)", first, second, third);
+
+        // when
+        commentCountReconciler.reconcile();
+
+        // then
+        assertThat(commentCount(first)).isEqualTo(1);
+        assertThat(commentCount(second)).isZero();
+        assertThat(commentCount(third)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("복구한 게시글은 상세 캐시에서도 바로 올바른 댓글 수로 조회된다")
+    void evictsRepairedPostsFromCache() {
+        // given
+        Long postId = postService.createPost("제목", "내용", "작성자").getId();
+        commentService.createComment(postId, "댓글", "작성자");
+        jdbcTemplate.update("update posts set comment_count = 99 where id = ?", postId);
+        entityManagerFactory.getCache().evict(Post.class, postId);
+        assertThat(postService.getPost(postId).getCommentCount()).isEqualTo(99);
+
+        // when
+        commentCountReconciler.reconcile();
+
+        // then
+        assertThat(postService.getPost(postId).getCommentCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("댓글 수가 정확한 게시글은 변경하지 않는다")
+    void leavesAccurateCountsAlone() {
+        // given
+        Long postId = postService.createPost("제목", "내용", "작성자").getId();
+        commentService.createComment(postId, "댓글", "작성자");
+        Object updatedAt = jdbcTemplate.queryForObject("select updated_at from posts where id = ?", Object.class, postId);
+
+        // when
+        commentCountReconciler.reconcile();
+
+        // then
+        assertThat(commentCount(postId)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("select updated_at from posts where id = ?", Object.class, postId))
+                .isEqualTo(updatedAt);
+    }
+
+    private long commentCount(Long postId) {
+        return jdbcTemplate.queryForObject("select comment_count from posts where id = ?", Long.class, postId);
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.tato126.board.domain.post;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class PostCommentCounterTest {
+
+    @Autowired
+    private PostCommentCounter postCommentCounter;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("댓글 수 증감 테스트")
+    void add() {
+        // given
+        Long id = savePost().getId();
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            postCommentCounter.add(id, 3);
+            postCommentCounter.add(id, -1);
+        });
+
+        // then
+        assertThat(findPost(id).getCommentCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시글은 갱신된 행이 없다")
+    void addMissingPost() {
+        // when
+        int updated = transactionTemplate.execute(status -> postCommentCounter.add(Long.MAX_VALUE, 1));
+
+        // then
+        assertThat(updated).isZero();
+    }
+
+    @Test
+    @DisplayName("댓글 수 갱신은 해당 게시글의 2차 캐시만 무효화한다")
+    void addEvictsOnlyThatPost() {
+        // given
+        Long id = savePost().getId();
+        Long other = savePost().getId();
+        findPost(id);
+        findPost(other);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> postCommentCounter.add(id, 1));
+
+        // then
+        assertThat(entityManagerFactory.getCache().contains(Post.class, id)).isFalse();
+        assertThat(entityManagerFactory.getCache().contains(Post.class, other)).isTrue();
+    }
+
+    private Post savePost() {
+        return transactionTemplate.execute(status -> postRepository.save(Post.builder()
+                .title("테스트 제목")
+                .content("테스트 내용")
+                .author("작성자")
+                .build()));
+    }
+
+    private Post findPost(Long id) {
+        return transactionTemplate.execute(status -> postRepository.findById(id).orElseThrow());
+    }
+}
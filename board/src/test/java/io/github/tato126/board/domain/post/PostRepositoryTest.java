@@ -1,24 +1,42 @@
 package io.github.tato126.board.domain.post;
 
+import io.github.tato126.board.common.sql.SqlStatementRecordingPostProcessor;
+import io.github.tato126.board.domain.comment.Comment;
+import io.github.tato126.board.domain.comment.CommentRepository;
+import io.github.tato126.board.support.SqlStatementCounter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
+@Import(SqlStatementRecordingPostProcessor.class)
 class PostRepositoryTest {
 
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     @DisplayName("게시글 저장 테스트")
     void savePost() {
@@ -92,6 +110,83 @@ class PostRepositoryTest {
         assertThat(postPage.getTotalPages()).isEqualTo(2);
     }
 
+    @Test
+    @DisplayName("게시글 목록 프로젝션 페이징 조회 테스트")
+    void findAllSummaries() {
+        // given
+        for (int i = 1; i <= 15; i++) {
+            Post post = Post.builder()
+                    .title("제목 " + i)
+                    .content("내용 " + i)
+                    .author("작성자")
+                    .build();
+            postRepository.save(post);
+        }
+
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id"));
+
+        // when
+        Page<PostSummary> summaryPage = postRepository.findAllSummaries(pageable);
+
+        // then
+        assertThat(summaryPage.getContent()).hasSize(10);
+        assertThat(summaryPage.getTotalElements()).isEqualTo(15);
+        assertThat(summaryPage.getContent().get(0).title()).isEqualTo("제목 15");
+    }
+
+    @Test
+    @DisplayName("게시글 커서 기반 조회 테스트")
+    void findLatestBefore() {
+        // given
+        for (int i = 1; i <= 15; i++) {
+            Post post = Post.builder()
+                    .title("제목 " + i)
+                    .content("내용 " + i)
+                    .author("작성자")
+                    .build();
+            postRepository.save(post);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<PostSummary> firstPage = postRepository.findLatest(PageRequest.ofSize(10));
+        PostSummary last = firstPage.get(firstPage.size() - 1);
+        List<PostSummary> secondPage = postRepository.findLatestBefore(
+                last.createdAt(), last.id(), PageRequest.ofSize(10));
+
+        // then
+        assertThat(firstPage).hasSize(10);
+        assertThat(secondPage).hasSize(5);
+        assertThat(secondPage).extracting(PostSummary::id)
+                .doesNotContainAnyElementsOf(firstPage.stream().map(PostSummary::id).toList());
+    }
+
+    @Test
+    @DisplayName("댓글 수 불일치 보정 테스트")
+    void reconcileCommentCounts() {
+        // given
+        Post savedPost = postRepository.save(Post.builder()
+                .title("테스트 제목")
+                .content("테스트 내용")
+                .author("작성자")
+                .build());
+        for (int i = 1; i <= 2; i++) {
+            commentRepository.save(Comment.builder()
+                    .content("댓글 " + i)
+                    .author("작성자")
+                    .post(savedPost)
+                    .build());
+        }
+
+        // when
+        int repaired = postRepository.reconcileCommentCounts(List.of(savedPost.getId()));
+
+        // then
+        assertThat(repaired).isEqualTo(1);
+        assertThat(postRepository.findById(savedPost.getId()).get().getCommentCount()).isEqualTo(2);
+    }
+
     @Test
     @DisplayName("게시글 수정 테스트")
     void updatePost() {
@@ -132,4 +227,124 @@ class PostRepositoryTest {
         Optional<Post> deletedPost = postRepository.findById(postId);
         assertThat(deletedPost).isEmpty();
     }
+
+    @Test
+    @DisplayName("댓글 트리와 게시글을 집합 단위로 삭제한다")
+    void deleteAllByIdInWithCommentTree() {
+        // given
+        Post post = postRepository.save(Post.builder()
+                .title("테스트 제목")
+                .content("테스트 내용")
+                .author("작성자")
+                .build());
+        Post other = postRepository.save(Post.builder()
+                .title("다른 제목")
+                .content("다른 내용")
+                .author("작성자")
+                .build());
+        Comment root = commentRepository.save(Comment.builder()
+                .content("댓글")
+                .author("작성자")
+                .post(post)
+                .build());
+        Comment reply = commentRepository.save(Comment.builder()
+                .content("답글")
+                .author("작성자")
+                .post(post)
+                .parent(root)
+                .build());
+        commentRepository.save(Comment.builder()
+                .content("답글의 답글")
+                .author("작성자")
+                .post(post)
+                .parent(reply)
+                .build());
+        commentRepository.save(Comment.builder()
+                .content("다른 댓글")
+                .author("작성자")
+                .post(other)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Long> ids = List.of(post.getId());
+        commentRepository.detachRepliesByPostIdIn(ids);
+        commentRepository.deleteAllByPostIdIn(ids);
+        int deleted = postRepository.deleteAllByIdIn(ids);
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(postRepository.findById(post.getId())).isEmpty();
+        assertThat(postRepository.findById(other.getId())).isPresent();
+        assertThat(commentRepository.findAll())
+                .extracting(Comment::getContent)
+                .containsExactly("다른 댓글");
+    }
+
+    @Test
+    @DisplayName("게시글 수정은 누적된 조회수를 덮어쓰지 않는다")
+    void updateKeepsViewCount() {
+        // given
+        Post post = postRepository.save(Post.builder()
+                .title("테스트 제목")
+                .content("테스트 내용")
+                .author("작성자")
+                .build());
+        entityManager.flush();
+        entityManager.createNativeQuery("update posts set view_count = view_count + 5 where id = ?")
+                .setParameter(1, post.getId())
+                .executeUpdate();
+
+        // when
+        post.update("수정된 제목", "수정된 내용");
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        Post found = postRepository.findById(post.getId()).orElseThrow();
+        assertThat(found.getTitle()).isEqualTo("수정된 제목");
+        assertThat(found.getViewCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("게시글 조회 API가 사용하는 쿼리는 각각 한 번의 SQL로 실행된다")
+    void readQueriesExecuteSingleStatement() {
+        // given
+        for (int i = 1; i <= 15; i++) {
+            postRepository.save(Post.builder()
+                    .title("제목 " + i)
+                    .content("내용 " + i)
+                    .author("작성자")
+                    .build());
+        }
+        entityManager.flush();
+        List<Long> ids = postRepository.findIdsAfter(0L, PageRequest.ofSize(3));
+        PostSummary last = postRepository.findLatest(PageRequest.ofSize(10)).get(9);
+
+        // when
+        int latest = statements(() -> postRepository.findLatest(PageRequest.ofSize(10)));
+        int latestBefore = statements(() ->
+                postRepository.findLatestBefore(last.createdAt(), last.id(), PageRequest.ofSize(10)));
+        int firstPage = statements(() -> postRepository.findAllSummaries(
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id"))));
+        int lastPage = statements(() -> postRepository.findAllSummaries(
+                PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "id"))));
+        int summaries = statements(() -> postRepository.findSummariesByIdIn(ids));
+        int post = statements(() -> postRepository.findById(ids.get(0)));
+
+        // then
+        assertThat(latest).isEqualTo(1);
+        assertThat(latestBefore).isEqualTo(1);
+        assertThat(firstPage).isEqualTo(2);
+        assertThat(lastPage).isEqualTo(1);
+        assertThat(summaries).isEqualTo(1);
+        assertThat(post).isEqualTo(1);
+    }
+
+    private int statements(Runnable action) {
+        entityManager.clear();
+        entityManagerFactory.getCache().evictAll();
+        return SqlStatementCounter.count(action).count();
+    }
 }
@@ -0,0 +1,116 @@
+package io.github.tato126.board.domain.post;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+class PostServiceCacheTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockitoBean
+    private PostRepository postRepository;
+
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(PostService.POST_CACHE).clear();
+        post = Post.builder()
+                .title("테스트 제목")
+                .content("테스트 내용")
+                .author("작성자")
+                .build();
+        ReflectionTestUtils.setField(post, "id", 1L);
+        given(postRepository.findById(1L)).willReturn(Optional.of(post));
+    }
+
+    @Test
+    @DisplayName("게시글 단건 조회는 캐시에서 제공된다")
+    void getPostIsCached() {
+        // when
+        Post first = postService.getPost(1L);
+        Post second = postService.getPost(1L);
+
+        // then
+        assertThat(second).isSameAs(first);
+        verify(postRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("동시에 조회해도 게시글은 한 번만 적재된다")
+    void concurrentGetPostLoadsOnce() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        given(postRepository.findById(1L)).willAnswer(invocation -> {
+            loading.await(5, TimeUnit.SECONDS);
+            return Optional.of(post);
+        });
+
+        // when
+        List<CompletableFuture<Post>> results;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            results = IntStream.range(0, 20)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(() -> postService.getPost(1L), executor))
+                    .toList();
+            Thread.sleep(100);
+            loading.countDown();
+        }
+
+        // then
+        assertThat(results).allSatisfy(result -> assertThat(result.get()).isSameAs(post));
+        verify(postRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("게시글 수정 시 캐시가 무효화된다")
+    void updatePostEvictsCache() {
+        // given
+        postService.getPost(1L);
+
+        // when
+        postService.updatePost(1L, "수정된 제목", "수정된 내용");
+        postService.getPost(1L);
+
+        // then
+        verify(postRepository, times(3)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("게시글 삭제 시 캐시가 무효화된다")
+    void deletePostEvictsCache() {
+        // given
+        postService.getPost(1L);
+        given(postRepository.existsById(1L)).willReturn(true);
+
+        // when
+        postService.deletePost(1L);
+
+        // then
+        assertThat(cacheManager.getCache(PostService.POST_CACHE).get(1L)).isNull();
+    }
+}
@@ -1,26 +1,41 @@
 package io.github.tato126.board.domain.post;
 
+import io.github.tato126.board.common.exception.InvalidRequestException;
 import io.github.tato126.board.common.exception.NotFoundException;
+import io.github.tato126.board.domain.comment.CommentRepository;
+import io.github.tato126.board.domain.hot.HotPostRanking;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class PostServiceTest {
@@ -31,6 +46,24 @@ class PostServiceTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PostViewCounter postViewCounter;
+
+    @Mock
+    private PostCommentCounter postCommentCounter;
+
+    @Mock
+    private HotPostRanking hotPostRanking;
+
     @Test
     @DisplayName("게시글 생성 테스트")
     void createPost() {
@@ -57,6 +90,30 @@ class PostServiceTest {
         assertThat(createdPost.getContent()).isEqualTo(content);
         assertThat(createdPost.getAuthor()).isEqualTo(author);
         verify(postRepository).save(any(Post.class));
+        verify(eventPublisher).publishEvent(new PostSavedEvent(1L, title, content));
+    }
+
+    @Test
+    @DisplayName("게시글 일괄 생성 테스트")
+    void createPosts() {
+        // given
+        List<PostDraft> drafts = IntStream.range(0, 250)
+                .mapToObj(i -> new PostDraft("제목 " + i, "내용 " + i, "작성자"))
+                .toList();
+        given(postRepository.save(any(Post.class))).willAnswer(invocation -> {
+            Post post = invocation.getArgument(0);
+            ReflectionTestUtils.setField(post, "id", 1L);
+            return post;
+        });
+
+        // when
+        List<Long> ids = postService.createPosts(drafts);
+
+        // then
+        assertThat(ids).hasSize(250);
+        verify(postRepository, times(250)).save(any(Post.class));
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
     }
 
     @Test
@@ -64,21 +121,63 @@ class PostServiceTest {
     void getPosts() {
         // given
         Pageable pageable = PageRequest.of(0, 10);
-        Post post1 = Post.builder().title("제목1").content("내용1").author("작성자1").build();
-        Post post2 = Post.builder().title("제목2").content("내용2").author("작성자2").build();
-        ReflectionTestUtils.setField(post1, "id", 1L);
-        ReflectionTestUtils.setField(post2, "id", 2L);
+        PostSummary post1 = new PostSummary(1L, "제목1", "작성자1", LocalDateTime.now(), 0L);
+        PostSummary post2 = new PostSummary(2L, "제목2", "작성자2", LocalDateTime.now(), 0L);
 
-        Page<Post> postPage = new PageImpl<>(List.of(post1, post2), pageable, 2);
-        given(postRepository.findAll(pageable)).willReturn(postPage);
+        Page<PostSummary> postPage = new PageImpl<>(List.of(post1, post2), pageable, 2);
+        given(postRepository.findAllSummaries(pageable)).willReturn(postPage);
 
         // when
-        Page<Post> result = postService.getPosts(pageable);
+        Page<PostSummary> result = postService.getPosts(pageable);
 
         // then
         assertThat(result.getContent()).hasSize(2);
         assertThat(result.getTotalElements()).isEqualTo(2);
-        verify(postRepository).findAll(pageable);
+        verify(postRepository).findAllSummaries(pageable);
+    }
+
+    @Test
+    @DisplayName("게시글 커서 조회 - 다음 페이지 존재")
+    void getPostsByCursor() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 12, 31, 12, 0);
+        PostCursor cursor = new PostCursor(createdAt, 10L);
+        PostSummary post1 = new PostSummary(9L, "제목1", "작성자1", createdAt, 0L);
+        PostSummary post2 = new PostSummary(8L, "제목2", "작성자2", createdAt, 0L);
+        PostSummary post3 = new PostSummary(7L, "제목3", "작성자3", createdAt, 0L);
+
+        given(postRepository.findLatestBefore(eq(createdAt), eq(10L), any(Pageable.class)))
+                .willReturn(List.of(post1, post2, post3));
+
+        // when
+        Slice<PostSummary> result = postService.getPostsByCursor(cursor, 2);
+
+        // then
+        assertThat(result.getContent()).containsExactly(post1, post2);
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("게시글 커서 조회 - 첫 페이지")
+    void getPostsByCursorFirstPage() {
+        // given
+        PostSummary post = new PostSummary(1L, "제목1", "작성자1", LocalDateTime.now(), 0L);
+        given(postRepository.findLatest(any(Pageable.class))).willReturn(List.of(post));
+
+        // when
+        Slice<PostSummary> result = postService.getPostsByCursor(null, 10);
+
+        // then
+        assertThat(result.getContent()).containsExactly(post);
+        assertThat(result.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("게시글 커서 조회 - 잘못된 페이지 크기")
+    void getPostsByCursorInvalidSize() {
+        // when & then
+        assertThatThrownBy(() -> postService.getPostsByCursor(null, 0))
+                .isInstanceOf(InvalidRequestException.class);
     }
 
     @Test
@@ -153,25 +252,22 @@ class PostServiceTest {
     }
 
     @Test
-    @DisplayName("게시글 삭제 테스트")
+    @DisplayName("게시글 삭제 시 댓글과 게시글을 집합 단위로 삭제한다")
     void deletePost() {
         // given
         Long postId = 1L;
-        Post post = Post.builder()
-                .title("테스트 제목")
-                .content("테스트 내용")
-                .author("작성자")
-                .build();
-        ReflectionTestUtils.setField(post, "id", postId);
-
-        given(postRepository.findById(postId)).willReturn(Optional.of(post));
+        given(postRepository.existsById(postId)).willReturn(true);
+        given(postRepository.deleteAllByIdIn(List.of(postId))).willReturn(1);
 
         // when
         postService.deletePost(postId);
 
         // then
-        verify(postRepository).findById(postId);
-        verify(postRepository).delete(post);
+        InOrder inOrder = inOrder(commentRepository, postRepository);
+        inOrder.verify(commentRepository).detachRepliesByPostIdIn(List.of(postId));
+        inOrder.verify(commentRepository).deleteAllByPostIdIn(List.of(postId));
+        inOrder.verify(postRepository).deleteAllByIdIn(List.of(postId));
+        verify(eventPublisher).publishEvent(new PostDeletedEvent(postId));
     }
 
     @Test
@@ -179,10 +275,74 @@ class PostServiceTest {
     void deletePostNotFound() {
         // given
         Long postId = 999L;
-        given(postRepository.findById(postId)).willReturn(Optional.empty());
+        given(postRepository.existsById(postId)).willReturn(false);
 
         // when & then
         assertThatThrownBy(() -> postService.deletePost(postId))
                 .isInstanceOf(NotFoundException.class);
+        verify(postRepository, never()).deleteAllByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("게시글 일괄 삭제는 청크 단위로 실행된다")
+    void deletePosts() {
+        // given
+        List<Long> ids = LongStream.rangeClosed(1, 1200).boxed().toList();
+        given(postRepository.findIdsByIdIn(any())).willAnswer(invocation -> invocation.getArgument(0));
+        given(postRepository.deleteAllByIdIn(any())).willAnswer(invocation ->
+                invocation.<List<Long>>getArgument(0).size());
+
+        // when
+        int deleted = postService.deletePosts(ids);
+
+        // then
+        assertThat(deleted).isEqualTo(1200);
+        verify(commentRepository, times(3)).deleteAllByPostIdIn(any());
+        verify(postRepository, times(3)).deleteAllByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("일괄 삭제는 실제로 삭제된 게시글에 대해서만 삭제 이벤트를 발행한다")
+    void deletePostsPublishesOnlyExistingIds() {
+        // given
+        given(postRepository.findIdsByIdIn(List.of(1L, 2L, 3L))).willReturn(List.of(1L, 3L));
+        given(postRepository.deleteAllByIdIn(List.of(1L, 3L))).willReturn(2);
+
+        // when
+        int deleted = postService.deletePosts(List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        verify(eventPublisher).publishEvent(new PostDeletedEvent(1L));
+        verify(eventPublisher).publishEvent(new PostDeletedEvent(3L));
+        verify(eventPublisher, never()).publishEvent(new PostDeletedEvent(2L));
+    }
+
+    @Test
+    @DisplayName("작성자 기준으로 게시글을 일괄 삭제한다")
+    void deletePostsByAuthor() {
+        // given
+        given(postRepository.findIdsByAuthor("작성자")).willReturn(List.of(1L, 2L));
+        given(postRepository.deleteAllByIdIn(List.of(1L, 2L))).willReturn(2);
+
+        // when
+        int deleted = postService.deletePostsByAuthor("작성자");
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        verify(eventPublisher).publishEvent(new PostDeletedEvent(1L));
+        verify(eventPublisher).publishEvent(new PostDeletedEvent(2L));
+    }
+
+    @Test
+    @DisplayName("게시글 조회수는 카운터에 누적된다")
+    void recordView() {
+        // when
+        postService.recordView(1L);
+
+        // then
+        verify(postViewCounter).increment(1L);
+        verify(hotPostRanking).recordView(1L);
+        verifyNoInteractions(postRepository);
     }
 }
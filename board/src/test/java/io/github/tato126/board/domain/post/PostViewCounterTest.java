@@ -0,0 +1,222 @@
+package io.github.tato126.board.domain.post;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PostViewCounterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CacheManager cacheManager;
+
+    private PostViewCounter postViewCounter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cacheManager = new ConcurrentMapCacheManager(PostService.POST_CACHE);
+        postViewCounter = new PostViewCounter(jdbcTemplate, new TransactionTemplate(transactionManager),
+                entityManagerFactory, cacheManager, taskScheduler, meterRegistry, 2);
+    }
+
+    @Test
+    @DisplayName("누적된 조회수를 게시글별 한 행으로 묶어 일괄 반영한다")
+    @SuppressWarnings("unchecked")
+    void flushBatchesDeltas() {
+        // given
+        given(entityManagerFactory.getCache()).willReturn(cache);
+        cacheManager.getCache(PostService.POST_CACHE).put(1L, "cached");
+        postViewCounter.increment(1L);
+        postViewCounter.increment(1L);
+        postViewCounter.increment(2L);
+
+        // when
+        postViewCounter.flush();
+
+        // then
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batch.capture());
+        assertThat(batch.getValue())
+                .extracting(row -> row[1] + "=" + row[0])
+                .containsExactlyInAnyOrder("1=2", "2=1");
+        assertThat(postViewCounter.pendingViews()).isZero();
+        assertThat(meterRegistry.get(PostViewCounter.FLUSHED_VIEWS_METRIC).counter().count()).isEqualTo(3);
+        verify(cache).evict(Post.class, 1L);
+        verify(cache).evict(Post.class, 2L);
+        assertThat(cacheManager.getCache(PostService.POST_CACHE).get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("반영할 조회수가 없으면 쿼리를 실행하지 않는다")
+    void flushWithoutPendingViews() {
+        // when
+        postViewCounter.flush();
+
+        // then
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 조회수는 다음 반영까지 유지된다")
+    void flushFailureKeepsDeltas() {
+        // given
+        postViewCounter.increment(1L);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .willThrow(new DataAccessResourceFailureException("down"));
+
+        // when
+        postViewCounter.flush();
+
+        // then
+        assertThat(postViewCounter.pendingViews()).isEqualTo(1);
+        assertThat(meterRegistry.get(PostViewCounter.PENDING_VIEWS_METRIC).gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 중인 게시글 수가 상한에 도달하면 요청 스레드가 아닌 스케줄러에서 반영한다")
+    void incrementSchedulesFlushWhenFull() {
+        // given
+        given(entityManagerFactory.getCache()).willReturn(cache);
+        postViewCounter.increment(1L);
+        postViewCounter.increment(2L);
+
+        // when
+        postViewCounter.increment(3L);
+        postViewCounter.increment(4L);
+
+        // then
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler, times(1)).schedule(task.capture(), any(Instant.class));
+        task.getValue().run();
+        verify(jdbcTemplate).batchUpdate(anyString(), anyList());
+        assertThat(postViewCounter.pendingViews()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 중인 다른 스레드가 있으면 기다리지 않고 돌아간다")
+    void flushSkipsWhileAnotherFlushRuns() throws Exception {
+        // given
+        given(entityManagerFactory.getCache()).willReturn(cache);
+        postViewCounter.increment(1L);
+        CountDownLatch flushing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willAnswer(invocation -> {
+            flushing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new int[]{1};
+        });
+        Thread first = Thread.ofVirtual().start(postViewCounter::flush);
+        flushing.await(5, TimeUnit.SECONDS);
+        postViewCounter.increment(2L);
+
+        // when
+        postViewCounter.flush();
+
+        // then
+        assertThat(postViewCounter.pendingViews()).isEqualTo(1);
+        release.countDown();
+        first.join();
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("일괄 반영은 하나의 트랜잭션으로 커밋되어 실패 시 전부 다시 시도된다")
+    void flushRunsInSingleTransaction() {
+        // given
+        postViewCounter.increment(1L);
+        postViewCounter.increment(2L);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .willThrow(new DataAccessResourceFailureException("down"));
+
+        // when
+        postViewCounter.flush();
+
+        // then
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        assertThat(postViewCounter.pendingViews()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("반영과 동시에 들어온 조회수도 잃어버리지 않는다")
+    void concurrentIncrementsAreNeverLost() throws Exception {
+        // given
+        given(entityManagerFactory.getCache()).willReturn(cache);
+        AtomicLong flushed = new AtomicLong();
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            rows.forEach(row -> flushed.addAndGet((long) row[0]));
+            return new int[rows.size()];
+        });
+        int threads = 8;
+        int perThread = 20_000;
+
+        // when
+        List<Thread> viewers = IntStream.range(0, threads)
+                .mapToObj(i -> Thread.ofPlatform().start(() -> {
+                    for (int n = 0; n < perThread; n++) {
+                        postViewCounter.increment((long) (n % 2));
+                    }
+                }))
+                .toList();
+        while (viewers.stream().anyMatch(Thread::isAlive)) {
+            postViewCounter.flush();
+        }
+        for (Thread viewer : viewers) {
+            viewer.join();
+        }
+        postViewCounter.flush();
+
+        // then
+        assertThat(flushed.get()).isEqualTo((long) threads * perThread);
+        assertThat(postViewCounter.pendingViews()).isZero();
+    }
+}
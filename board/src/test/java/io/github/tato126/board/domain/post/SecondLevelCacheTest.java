@@ -0,0 +1,173 @@
+package io.github.tato126.board.domain.post;
+
+import io.github.tato126.board.common.sql.SqlStatementStats;
+import io.github.tato126.board.domain.comment.Comment;
+import io.github.tato126.board.domain.comment.CommentRepository;
+import io.github.tato126.board.domain.comment.CommentService;
+import io.github.tato126.board.support.SqlStatementCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class SecondLevelCacheTest {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private PostViewCounter postViewCounter;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("게시글은 2차 캐시에서 조회된다")
+    void postIsServedFromCache() {
+        // given
+        Long id = savePost().getId();
+        findPost(id);
+
+        // when
+        SqlStatementStats stats = SqlStatementCounter.count(() -> findPost(id));
+
+        // then
+        assertThat(stats.count()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("게시글 수정은 커밋 후 캐시에 반영된다")
+    void updateIsVisible() {
+        // given
+        Long id = savePost().getId();
+        findPost(id);
+
+        // when
+        transactionTemplate.executeWithoutResult(status ->
+                postRepository.findById(id).orElseThrow().update("수정된 제목", "수정된 내용"));
+
+        // then
+        assertThat(findPost(id).getTitle()).isEqualTo("수정된 제목");
+    }
+
+    @Test
+    @DisplayName("집합 단위 삭제 후 캐시에서 조회되지 않는다")
+    void bulkDeleteEvicts() {
+        // given
+        Long id = savePost().getId();
+        findPost(id);
+
+        // when
+        postService.deletePosts(List.of(id));
+
+        // then
+        assertThat(findPost(id)).isNull();
+    }
+
+    @Test
+    @DisplayName("JDBC로 반영한 조회수는 캐시를 무효화한다")
+    void viewCountFlushEvicts() {
+        // given
+        Long id = savePost().getId();
+        findPost(id);
+
+        // when
+        postViewCounter.increment(id);
+        postViewCounter.flush();
+
+        // then
+        assertThat(findPost(id).getViewCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("댓글 작성이 이어져도 다른 게시글은 2차 캐시에서 조회된다")
+    void commentCreationKeepsOtherPostsCached() {
+        // given
+        Long commented = savePost().getId();
+        List<Long> others = List.of(savePost().getId(), savePost().getId(), savePost().getId());
+        others.forEach(this::findPost);
+        statistics.clear();
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            commentService.createComment(commented, "댓글 " + i, "작성자");
+            others.forEach(this::findPost);
+        }
+
+        // then
+        CacheRegionStatistics posts = statistics.getDomainDataRegionStatistics(Post.class.getName());
+        assertThat(posts.getMissCount()).isZero();
+        assertThat(posts.getHitCount()).isEqualTo(others.size() * 10L);
+        assertThat(findPost(commented).getCommentCount()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("답글 컬렉션은 답글 추가와 삭제를 반영한다")
+    void repliesCollectionIsCoherent() {
+        // given
+        Long postId = savePost().getId();
+        Comment root = commentService.createComment(postId, "댓글", "작성자");
+        commentService.createReply(root.getId(), "답글 1", "작성자");
+        assertThat(replyCount(root.getId())).isEqualTo(1);
+
+        // when
+        Comment second = commentService.createReply(root.getId(), "답글 2", "작성자");
+        int afterCreate = replyCount(root.getId());
+        commentService.deleteComment(second.getId());
+        int afterDelete = replyCount(root.getId());
+
+        // then
+        assertThat(afterCreate).isEqualTo(2);
+        assertThat(afterDelete).isEqualTo(1);
+    }
+
+    private Post savePost() {
+        return transactionTemplate.execute(status -> postRepository.save(Post.builder()
+                .title("테스트 제목")
+                .content("테스트 내용")
+                .author("작성자")
+                .build()));
+    }
+
+    private Post findPost(Long id) {
+        return transactionTemplate.execute(status -> postRepository.findById(id).orElse(null));
+    }
+
+    private int replyCount(Long commentId) {
+        return transactionTemplate.execute(status ->
+                commentRepository.findById(commentId).orElseThrow().getReplies().size());
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.tato126.board.domain.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostSearchIndexTest {
+
+    private final PostSearchIndex postSearchIndex = new PostSearchIndex();
+
+    @Test
+    @DisplayName("모든 검색어를 포함한 게시글만 조회된다")
+    void searchMatchesAllTerms() {
+        // given
+        postSearchIndex.index(1L, "스프링 캐시", "Caffeine 설정 방법");
+        postSearchIndex.index(2L, "스프링 배치", "청크 처리");
+        postSearchIndex.index(3L, "JPA 캐시", "2차 캐시 정리");
+
+        // when
+        SearchResult result = postSearchIndex.search("스프링 캐시", 0, 10);
+
+        // then
+        assertThat(result.total()).isEqualTo(1);
+        assertThat(result.hits()).extracting(SearchHit::postId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("한 글자 한글 검색어도 단어 안에서 조회된다")
+    void searchSingleHangulSyllable() {
+        // given
+        postSearchIndex.index(1L, "게시글 작성", "내용");
+        postSearchIndex.index(2L, "공지", "안내");
+
+        // when
+        SearchResult result = postSearchIndex.search("글", 0, 10);
+
+        // then
+        assertThat(result.hits()).extracting(SearchHit::postId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("제목에 포함된 검색어가 본문보다 높은 점수를 받는다")
+    void searchRanksTitleHigher() {
+        // given
+        postSearchIndex.index(1L, "일상 이야기", "오늘은 캐시 공부를 했다");
+        postSearchIndex.index(2L, "캐시 정리", "오늘 공부한 내용");
+
+        // when
+        SearchResult result = postSearchIndex.search("캐시", 0, 10);
+
+        // then
+        assertThat(result.hits()).extracting(SearchHit::postId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("재색인하면 이전 내용으로는 조회되지 않는다")
+    void reindexReplacesTerms() {
+        // given
+        postSearchIndex.index(1L, "스프링", "내용");
+
+        // when
+        postSearchIndex.index(1L, "자바", "내용");
+
+        // then
+        assertThat(postSearchIndex.search("스프링", 0, 10).total()).isZero();
+        assertThat(postSearchIndex.search("자바", 0, 10).total()).isEqualTo(1);
+        assertThat(postSearchIndex.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글은 조회되지 않는다")
+    void removeExcludesPost() {
+        // given
+        postSearchIndex.index(1L, "스프링", "내용");
+        postSearchIndex.index(2L, "스프링", "내용");
+
+        // when
+        postSearchIndex.remove(1L);
+
+        // then
+        assertThat(postSearchIndex.search("스프링", 0, 10).hits())
+                .extracting(SearchHit::postId)
+                .containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("offset과 limit으로 결과를 나눠 조회한다")
+    void searchPaginates() {
+        // given
+        for (long id = 1; id <= 5; id++) {
+            postSearchIndex.index(id, "스프링", "내용");
+        }
+
+        // when
+        SearchResult result = postSearchIndex.search("스프링", 2, 2);
+
+        // then
+        assertThat(result.total()).isEqualTo(5);
+        assertThat(result.hits()).extracting(SearchHit::postId).containsExactly(3L, 2L);
+    }
+}
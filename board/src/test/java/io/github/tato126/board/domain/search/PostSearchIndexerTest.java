@@ -0,0 +1,64 @@
+package io.github.tato126.board.domain.search;
+
+import io.github.tato126.board.domain.post.PostDeletedEvent;
+import io.github.tato126.board.domain.post.PostDocument;
+import io.github.tato126.board.domain.post.PostRepository;
+import io.github.tato126.board.domain.post.PostSavedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class PostSearchIndexerTest {
+
+    private final PostSearchIndex postSearchIndex = new PostSearchIndex();
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final PostSearchIndexer postSearchIndexer = new PostSearchIndexer(postSearchIndex, postRepository);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(postSearchIndexer, "parallelism", 1);
+        ReflectionTestUtils.setField(postSearchIndexer, "chunkSize", 10);
+        given(postRepository.findMinId()).willReturn(1L);
+        given(postRepository.findMaxId()).willReturn(2L);
+    }
+
+    @Test
+    @DisplayName("재색인 중 도착한 이벤트는 재색인 이후에 적용된다")
+    void rebuildReplaysLiveEventsAfterSnapshot() {
+        // given
+        given(postRepository.findDocumentsInRange(1L, 11L)).willAnswer(invocation -> {
+            postSearchIndexer.handle(new PostDeletedEvent(1L));
+            postSearchIndexer.handle(new PostSavedEvent(2L, "수정된 제목", "내용"));
+            return List.of(new PostDocument(1L, "삭제된 제목", "내용"), new PostDocument(2L, "이전 제목", "내용"));
+        });
+
+        // when
+        postSearchIndexer.rebuild();
+
+        // then
+        assertThat(postSearchIndex.search("삭제된", 0, 10).total()).isZero();
+        assertThat(postSearchIndex.search("이전", 0, 10).total()).isZero();
+        assertThat(postSearchIndex.search("수정된", 0, 10).hits()).extracting(SearchHit::postId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("재색인이 끝난 뒤의 이벤트는 바로 적용된다")
+    void handleAppliesImmediatelyAfterRebuild() {
+        // given
+        given(postRepository.findDocumentsInRange(1L, 11L)).willReturn(List.of());
+        postSearchIndexer.rebuild();
+
+        // when
+        postSearchIndexer.handle(new PostSavedEvent(1L, "새 제목", "내용"));
+
+        // then
+        assertThat(postSearchIndex.size()).isEqualTo(1);
+    }
+}
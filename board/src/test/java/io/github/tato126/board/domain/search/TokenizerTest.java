@@ -0,0 +1,69 @@
+package io.github.tato126.board.domain.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenizerTest {
+
+    @Test
+    @DisplayName("한글은 두 글자 단위로 분리된다")
+    void tokenizeHangulBigrams() {
+        // when
+        List<String> tokens = Tokenizer.tokenize("게시판입니다");
+
+        // then
+        assertThat(tokens).containsExactly("게시", "시판", "판입", "입니", "니다");
+    }
+
+    @Test
+    @DisplayName("색인용 토큰에는 한글 한 글자 단위도 포함된다")
+    void tokenizeForIndexAddsHangulUnigrams() {
+        // when
+        List<String> tokens = Tokenizer.tokenizeForIndex("게시글");
+
+        // then
+        assertThat(tokens).containsExactly("게시", "시글", "게", "시", "글");
+    }
+
+    @Test
+    @DisplayName("한 글자 한글은 그대로 토큰이 된다")
+    void tokenizeSingleHangul() {
+        // when
+        List<String> tokens = Tokenizer.tokenize("글");
+
+        // then
+        assertThat(tokens).containsExactly("글");
+    }
+
+    @Test
+    @DisplayName("영문과 숫자는 소문자 단어로 분리된다")
+    void tokenizeLatinWords() {
+        // when
+        List<String> tokens = Tokenizer.tokenize("Spring Boot 4.0, JPA!");
+
+        // then
+        assertThat(tokens).containsExactly("spring", "boot", "4", "0", "jpa");
+    }
+
+    @Test
+    @DisplayName("한글과 영문이 붙어 있으면 각각 분리된다")
+    void tokenizeMixedScripts() {
+        // when
+        List<String> tokens = Tokenizer.tokenize("JPA연관관계");
+
+        // then
+        assertThat(tokens).containsExactly("jpa", "연관", "관관", "관계");
+    }
+
+    @Test
+    @DisplayName("빈 문자열은 토큰이 없다")
+    void tokenizeBlank() {
+        // when & then
+        assertThat(Tokenizer.tokenize("   ")).isEmpty();
+        assertThat(Tokenizer.tokenize(null)).isEmpty();
+    }
+}
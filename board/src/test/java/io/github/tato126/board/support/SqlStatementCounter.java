@@ -0,0 +1,21 @@
+package io.github.tato126.board.support;
+
+import io.github.tato126.board.common.sql.SqlStatementRecorder;
+import io.github.tato126.board.common.sql.SqlStatementStats;
+
+public final class SqlStatementCounter {
+
+    private SqlStatementCounter() {
+    }
+
+    public static SqlStatementStats count(Runnable action) {
+        SqlStatementRecorder.start();
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            SqlStatementRecorder.stop();
+            throw e;
+        }
+        return SqlStatementRecorder.stop();
+    }
+}